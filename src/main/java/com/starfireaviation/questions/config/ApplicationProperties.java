@@ -20,6 +20,9 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Application Properties.
  */
@@ -48,4 +51,69 @@ public class ApplicationProperties {
      */
     private int readTimeout;
 
+    /**
+     * ID allocation strategy for entity maps.
+     */
+    private IdStrategy idStrategy = IdStrategy.FLAKE;
+
+    /**
+     * Number of IDs a member leases at a time under the SEQUENCE strategy.
+     */
+    private int idBlockSize;
+
+    /**
+     * Threads available for concurrent sub-lookups, such as question bundles.
+     */
+    private int fanOutThreads;
+
+    /**
+     * Largest page size accepted by paginated endpoints.
+     */
+    private int maxPageSize;
+
+    /**
+     * Largest number of questions in a generated quiz.
+     */
+    private int maxQuizSize;
+
+    /**
+     * Minutes before a wrongly answered question is due for practice again.
+     */
+    private int practiceRelearnMinutes;
+
+    /**
+     * Requests replayed against hot endpoints at startup to warm the JIT before reporting ready.
+     */
+    private int warmUpRequests;
+
+    /**
+     * Attempts at loading data and building indexes at startup before the member reports itself not live.
+     */
+    private int warmUpAttempts;
+
+    /**
+     * Delay before the first warm-up retry, doubling before each later one.
+     */
+    private long warmUpRetryMillis;
+
+    /**
+     * Hazelcast cluster membership settings.
+     */
+    private ClusterProperties cluster = new ClusterProperties();
+
+    /**
+     * Local persistence settings for entity maps.
+     */
+    private PersistenceProperties persistence = new PersistenceProperties();
+
+    /**
+     * Hazelcast SQL settings.
+     */
+    private SqlProperties sql = new SqlProperties();
+
+    /**
+     * Hazelcast settings by map name.
+     */
+    private Map<String, MapProperties> maps = new HashMap<>();
+
 }
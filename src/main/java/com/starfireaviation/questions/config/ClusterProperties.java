@@ -0,0 +1,74 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.config;
+
+import com.hazelcast.config.PartitionGroupConfig;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hazelcast cluster membership settings.
+ */
+@Getter
+@Setter
+public class ClusterProperties {
+
+    /**
+     * Cluster name. Only members with the same name join each other.
+     */
+    private String name;
+
+    /**
+     * Discovery mode.
+     */
+    private DiscoveryMode discovery = DiscoveryMode.EMBEDDED;
+
+    /**
+     * Member port. The next free port is used when it is taken.
+     */
+    private int port;
+
+    /**
+     * Member addresses for TCP_IP discovery, such as "10.0.0.1" or "10.0.0.1:5701".
+     */
+    private List<String> members = new ArrayList<>();
+
+    /**
+     * Headless service DNS name for KUBERNETES discovery. The Kubernetes API is used when blank.
+     */
+    private String kubernetesServiceDns;
+
+    /**
+     * Namespace for KUBERNETES discovery through the API, the pod's own namespace when blank.
+     */
+    private String kubernetesNamespace;
+
+    /**
+     * Service name for KUBERNETES discovery through the API, every pod in the namespace when blank.
+     */
+    private String kubernetesServiceName;
+
+    /**
+     * Partition group type, such as ZONE_AWARE or NODE_AWARE, so backups are kept apart from their primaries. Per
+     * member when unset.
+     */
+    private PartitionGroupConfig.MemberGroupType partitionGroup;
+
+}
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.config;
+
+/**
+ * How a member finds the other members of its data grid.
+ */
+public enum DiscoveryMode {
+
+    /**
+     * Single member, no join.
+     */
+    EMBEDDED,
+
+    /**
+     * Static list of member addresses.
+     */
+    TCP_IP,
+
+    /**
+     * Kubernetes, through a headless service DNS name or the Kubernetes API.
+     */
+    KUBERNETES
+
+}
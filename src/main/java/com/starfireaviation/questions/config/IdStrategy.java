@@ -0,0 +1,35 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.config;
+
+/**
+ * ID allocation strategies for entity maps.
+ */
+public enum IdStrategy {
+
+    /**
+     * Dense IDs leased in blocks from a cluster-wide sequence. Only collision-free with the CP subsystem enabled, which
+     * needs at least 3 members; otherwise the sequence runs in unsafe mode and a network split can issue an ID twice.
+     */
+    SEQUENCE,
+
+    /**
+     * Sparse, time-ordered IDs from a Hazelcast FlakeIdGenerator, unique without coordination. The default.
+     */
+    FLAKE
+
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.config;
+
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MaxSizePolicy;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hazelcast settings for a single map. Settings left unset keep the Hazelcast default.
+ */
+@Getter
+@Setter
+public class MapProperties {
+
+    /**
+     * In-memory format: OBJECT for hot read maps, BINARY for maps mostly read whole or replicated.
+     */
+    private InMemoryFormat inMemoryFormat;
+
+    /**
+     * Synchronous backup count.
+     */
+    private Integer backupCount;
+
+    /**
+     * Asynchronous backup count.
+     */
+    private Integer asyncBackupCount;
+
+    /**
+     * Whether a member may serve reads from its own backup copies.
+     */
+    private Boolean readBackupData;
+
+    /**
+     * Eviction policy.
+     */
+    private EvictionPolicy evictionPolicy;
+
+    /**
+     * Maximum size, interpreted according to maxSizePolicy.
+     */
+    private Integer maxSize;
+
+    /**
+     * Maximum size policy, such as PER_NODE or USED_HEAP_SIZE.
+     */
+    private MaxSizePolicy maxSizePolicy;
+
+    /**
+     * Time to live, in seconds.
+     */
+    private Integer timeToLiveSeconds;
+
+    /**
+     * Maximum idle time, in seconds.
+     */
+    private Integer maxIdleSeconds;
+
+    /**
+     * Index definitions.
+     */
+    private List<IndexProperties> indexes = new ArrayList<>();
+
+    /**
+     * Near cache settings, none when unset.
+     */
+    private NearCacheProperties nearCache;
+
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.config;
+
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Hazelcast near cache settings for a map. Settings left unset keep the Hazelcast default.
+ */
+@Getter
+@Setter
+public class NearCacheProperties {
+
+    /**
+     * In-memory format of near-cached values.
+     */
+    private InMemoryFormat inMemoryFormat = InMemoryFormat.OBJECT;
+
+    /**
+     * Whether entries are invalidated when they change anywhere in the cluster.
+     */
+    private boolean invalidateOnChange = true;
+
+    /**
+     * Whether entries owned by this member are near cached as well.
+     */
+    private boolean cacheLocalEntries;
+
+    /**
+     * Time to live, in seconds.
+     */
+    private Integer timeToLiveSeconds;
+
+    /**
+     * Maximum idle time, in seconds.
+     */
+    private Integer maxIdleSeconds;
+
+    /**
+     * Eviction policy.
+     */
+    private EvictionPolicy evictionPolicy;
+
+    /**
+     * Maximum number of near-cached entries.
+     */
+    private Integer maxSize;
+
+    /**
+     * Whether near-cached keys are stored periodically and preloaded on restart. Honoured by Hazelcast clients
+     * sharing this configuration; embedded members warm up from their own partitions instead.
+     */
+    private boolean preload;
+
+    /**
+     * Directory the preloader stores keys in.
+     */
+    private String preloadDirectory;
+
+    /**
+     * Interval between preloader key snapshots, in seconds.
+     */
+    private Integer preloadStoreIntervalSeconds;
+
+}
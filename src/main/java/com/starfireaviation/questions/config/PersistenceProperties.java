@@ -0,0 +1,62 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.config;
+
+import com.hazelcast.config.MapStoreConfig;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Local write-behind persistence settings for entity maps.
+ */
+@Getter
+@Setter
+public class PersistenceProperties {
+
+    /**
+     * Whether entity maps are persisted.
+     */
+    private boolean enabled;
+
+    /**
+     * Root directory for persisted entries, one subdirectory per map. Members of a cluster must share it, as each
+     * member writes the partitions it owns and the initial load lists keys from a single member.
+     */
+    private String dataDir;
+
+    /**
+     * Seconds a change waits before it is written. 0 writes through synchronously.
+     */
+    private int writeDelaySeconds;
+
+    /**
+     * Maximum number of entries written per batch.
+     */
+    private int writeBatchSize;
+
+    /**
+     * Whether only the latest of several queued changes to one key is written.
+     */
+    private boolean writeCoalescing = true;
+
+    /**
+     * Whether maps load stored entries when first created (EAGER) or on first use (LAZY). LAZY lets startup warm-up
+     * load every map in parallel.
+     */
+    private MapStoreConfig.InitialLoadMode initialLoadMode = MapStoreConfig.InitialLoadMode.LAZY;
+
+}
@@ -16,16 +16,36 @@
 
 package com.starfireaviation.questions.config;
 
+import com.hazelcast.config.AttributeConfig;
 import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.config.KubernetesConfig;
 import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.config.NearCachePreloaderConfig;
+import com.hazelcast.config.NetworkConfig;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
-import com.starfireaviation.common.CommonConstants;
+import com.hazelcast.spi.properties.ClusterProperty;
 import com.starfireaviation.common.service.DataService;
+import com.starfireaviation.questions.index.NormalizedCodeExtractor;
+import com.starfireaviation.questions.model.QuestionScopedKey;
+import com.starfireaviation.questions.persistence.EntityMaps;
+import com.starfireaviation.questions.persistence.FileMapStoreFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * ServiceConfig.
@@ -35,18 +55,225 @@ import org.springframework.context.annotation.Configuration;
 @EnableConfigurationProperties({ ApplicationProperties.class })
 public class ServiceConfig {
 
+    /**
+     * Maps looked up by case-insensitive code.
+     */
+    private static final String[] CODE_MAPS = {"acs", "subjectmattercodes"};
+
     /**
      * Hazelcast Questions Instance.
      *
+     * @param applicationProperties ApplicationProperties
      * @return HazelcastInstance
      */
     @Bean("questions")
-    public HazelcastInstance hazelcastQuestionsInstance() {
-        return Hazelcast.newHazelcastInstance(
-                new Config().addMapConfig(
-                        new MapConfig("questions")
-                                .setTimeToLiveSeconds(CommonConstants.THREE_HUNDRED)
-                                .setMaxIdleSeconds(CommonConstants.THREE_HUNDRED)));
+    public HazelcastInstance hazelcastQuestionsInstance(final ApplicationProperties applicationProperties) {
+        return Hazelcast.newHazelcastInstance(hazelcastConfig(applicationProperties));
+    }
+
+    /**
+     * Builds the Hazelcast member configuration.
+     *
+     * @param applicationProperties ApplicationProperties
+     * @return Config
+     */
+    public static Config hazelcastConfig(final ApplicationProperties applicationProperties) {
+        final Config config = new Config();
+        configureCluster(config, applicationProperties.getCluster());
+        final List<Class<?>> compactClasses = new ArrayList<>(EntityMaps.TYPES.values());
+        compactClasses.add(QuestionScopedKey.class);
+        config.getSerializationConfig().getCompactSerializationConfig()
+                .setClasses(compactClasses.toArray(new Class<?>[0]));
+        applicationProperties.getMaps().forEach((name, mapProperties) ->
+                config.addMapConfig(mapConfig(name, mapProperties)));
+        for (final String mapName : CODE_MAPS) {
+            config.getMapConfig(mapName).addAttributeConfig(new AttributeConfig(NormalizedCodeExtractor.ATTRIBUTE,
+                    NormalizedCodeExtractor.class.getName()));
+        }
+        configurePersistence(config, applicationProperties.getPersistence());
+        disableEvictionWithoutStore(config);
+        config.getJetConfig().setEnabled(applicationProperties.getSql().isEnabled());
+        return config;
+    }
+
+    /**
+     * Attaches a write-behind file store to every entity map. The shutdown hook is made graceful so queued writes are
+     * flushed when the process is stopped.
+     *
+     * @param config Config
+     * @param persistence PersistenceProperties
+     */
+    private static void configurePersistence(final Config config, final PersistenceProperties persistence) {
+        if (!persistence.isEnabled()) {
+            return;
+        }
+        config.setProperty(ClusterProperty.SHUTDOWNHOOK_POLICY.getName(), "GRACEFUL");
+        final FileMapStoreFactory factory = new FileMapStoreFactory(Paths.get(persistence.getDataDir()));
+        for (final String mapName : EntityMaps.TYPES.keySet()) {
+            config.getMapConfig(mapName).setMapStoreConfig(new MapStoreConfig()
+                    .setEnabled(true)
+                    .setFactoryImplementation(factory)
+                    .setWriteDelaySeconds(persistence.getWriteDelaySeconds())
+                    .setWriteBatchSize(persistence.getWriteBatchSize())
+                    .setWriteCoalescing(persistence.isWriteCoalescing())
+                    .setInitialLoadMode(persistence.getInitialLoadMode()));
+        }
+        log.info("Persisting entity maps to {}", persistence.getDataDir());
+    }
+
+    /**
+     * Turns eviction off for maps without a store. Evicted entries could not be read back, and indexes built from
+     * entry listeners would keep returning their IDs. As persistence is off by default, this is logged as a warning so
+     * that a configured size bound is never dropped silently.
+     *
+     * @param config Config
+     */
+    private static void disableEvictionWithoutStore(final Config config) {
+        for (final MapConfig mapConfig : config.getMapConfigs().values()) {
+            if (mapConfig.getEvictionConfig().getEvictionPolicy() != EvictionPolicy.NONE
+                    && !mapConfig.getMapStoreConfig().isEnabled()) {
+                log.warn("Map '{}' is configured for {} eviction but has no store to read evicted entries back from;"
+                        + " eviction disabled and the map is unbounded. Set PERSISTENCE_ENABLED=true to bound it",
+                        mapConfig.getName(), mapConfig.getEvictionConfig().getEvictionPolicy());
+                mapConfig.getEvictionConfig().setEvictionPolicy(EvictionPolicy.NONE);
+            }
+        }
+    }
+
+    /**
+     * Applies cluster name, discovery and partition grouping.
+     *
+     * @param config Config
+     * @param cluster ClusterProperties
+     */
+    private static void configureCluster(final Config config, final ClusterProperties cluster) {
+        if (StringUtils.hasText(cluster.getName())) {
+            config.setClusterName(cluster.getName());
+        }
+        final NetworkConfig network = config.getNetworkConfig();
+        if (cluster.getPort() > 0) {
+            network.setPort(cluster.getPort());
+        }
+        final JoinConfig join = network.getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getAutoDetectionConfig().setEnabled(false);
+        switch (cluster.getDiscovery()) {
+            case TCP_IP:
+                join.getTcpIpConfig().setEnabled(true).setMembers(cluster.getMembers());
+                break;
+            case KUBERNETES:
+                final KubernetesConfig kubernetes = join.getKubernetesConfig().setEnabled(true);
+                if (StringUtils.hasText(cluster.getKubernetesServiceDns())) {
+                    kubernetes.setProperty("service-dns", cluster.getKubernetesServiceDns());
+                } else {
+                    if (StringUtils.hasText(cluster.getKubernetesNamespace())) {
+                        kubernetes.setProperty("namespace", cluster.getKubernetesNamespace());
+                    }
+                    if (StringUtils.hasText(cluster.getKubernetesServiceName())) {
+                        kubernetes.setProperty("service-name", cluster.getKubernetesServiceName());
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+        if (cluster.getPartitionGroup() != null) {
+            config.getPartitionGroupConfig()
+                    .setEnabled(true)
+                    .setGroupType(cluster.getPartitionGroup());
+        }
+        log.info("Hazelcast cluster '{}' using {} discovery", config.getClusterName(), cluster.getDiscovery());
+    }
+
+    /**
+     * Builds a map configuration from properties.
+     *
+     * @param name map name
+     * @param mapProperties MapProperties
+     * @return MapConfig
+     */
+    private static MapConfig mapConfig(final String name, final MapProperties mapProperties) {
+        final MapConfig mapConfig = new MapConfig(name);
+        if (mapProperties.getInMemoryFormat() != null) {
+            mapConfig.setInMemoryFormat(mapProperties.getInMemoryFormat());
+        }
+        if (mapProperties.getBackupCount() != null) {
+            mapConfig.setBackupCount(mapProperties.getBackupCount());
+        }
+        if (mapProperties.getAsyncBackupCount() != null) {
+            mapConfig.setAsyncBackupCount(mapProperties.getAsyncBackupCount());
+        }
+        if (mapProperties.getReadBackupData() != null) {
+            mapConfig.setReadBackupData(mapProperties.getReadBackupData());
+        }
+        if (mapProperties.getEvictionPolicy() != null) {
+            mapConfig.getEvictionConfig().setEvictionPolicy(mapProperties.getEvictionPolicy());
+        }
+        if (mapProperties.getMaxSize() != null) {
+            mapConfig.getEvictionConfig().setSize(mapProperties.getMaxSize());
+        }
+        if (mapProperties.getMaxSizePolicy() != null) {
+            mapConfig.getEvictionConfig().setMaxSizePolicy(mapProperties.getMaxSizePolicy());
+        }
+        if (mapProperties.getTimeToLiveSeconds() != null) {
+            mapConfig.setTimeToLiveSeconds(mapProperties.getTimeToLiveSeconds());
+        }
+        if (mapProperties.getMaxIdleSeconds() != null) {
+            mapConfig.setMaxIdleSeconds(mapProperties.getMaxIdleSeconds());
+        }
+        for (final IndexProperties index : mapProperties.getIndexes()) {
+            mapConfig.addIndexConfig(new IndexConfig(index.getType(), index.getAttributes().toArray(new String[0])));
+        }
+        if (mapProperties.getNearCache() != null) {
+            mapConfig.setNearCacheConfig(nearCacheConfig(name, mapProperties.getNearCache()));
+        }
+        return mapConfig;
+    }
+
+    /**
+     * Builds a near cache configuration from properties.
+     *
+     * @param name map name
+     * @param nearCacheProperties NearCacheProperties
+     * @return NearCacheConfig
+     */
+    private static NearCacheConfig nearCacheConfig(final String name, final NearCacheProperties nearCacheProperties) {
+        final NearCacheConfig nearCacheConfig = new NearCacheConfig(name)
+                .setInMemoryFormat(nearCacheProperties.getInMemoryFormat())
+                .setInvalidateOnChange(nearCacheProperties.isInvalidateOnChange())
+                .setCacheLocalEntries(nearCacheProperties.isCacheLocalEntries());
+        if (nearCacheProperties.getTimeToLiveSeconds() != null) {
+            nearCacheConfig.setTimeToLiveSeconds(nearCacheProperties.getTimeToLiveSeconds());
+        }
+        if (nearCacheProperties.getMaxIdleSeconds() != null) {
+            nearCacheConfig.setMaxIdleSeconds(nearCacheProperties.getMaxIdleSeconds());
+        }
+        if (nearCacheProperties.getEvictionPolicy() != null) {
+            nearCacheConfig.getEvictionConfig().setEvictionPolicy(nearCacheProperties.getEvictionPolicy());
+        }
+        if (nearCacheProperties.getMaxSize() != null) {
+            nearCacheConfig.getEvictionConfig().setSize(nearCacheProperties.getMaxSize());
+        }
+        if (nearCacheProperties.isPreload()) {
+            final NearCachePreloaderConfig preloaderConfig = new NearCachePreloaderConfig(true,
+                    nearCacheProperties.getPreloadDirectory());
+            if (nearCacheProperties.getPreloadStoreIntervalSeconds() != null) {
+                preloaderConfig.setStoreIntervalSeconds(nearCacheProperties.getPreloadStoreIntervalSeconds());
+            }
+            nearCacheConfig.setPreloaderConfig(preloaderConfig);
+        }
+        return nearCacheConfig;
+    }
+
+    /**
+     * Executor for concurrent sub-lookups within a single request.
+     *
+     * @param applicationProperties ApplicationProperties
+     * @return ExecutorService
+     */
+    @Bean("fanOutExecutor")
+    public ExecutorService fanOutExecutor(final ApplicationProperties applicationProperties) {
+        return Executors.newFixedThreadPool(Math.max(1, applicationProperties.getFanOutThreads()));
     }
 
     /**
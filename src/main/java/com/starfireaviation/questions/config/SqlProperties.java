@@ -0,0 +1,44 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Hazelcast SQL settings for the read-only query endpoint.
+ */
+@Getter
+@Setter
+public class SqlProperties {
+
+    /**
+     * Whether the SQL engine runs and entity maps are mapped for queries.
+     */
+    private boolean enabled;
+
+    /**
+     * Query timeout, in milliseconds.
+     */
+    private long timeoutMillis;
+
+    /**
+     * Maximum number of rows returned by a query.
+     */
+    private int maxRows;
+
+}
@@ -17,6 +17,7 @@
 package com.starfireaviation.questions.controller;
 
 import com.starfireaviation.common.model.ACS;
+import com.starfireaviation.questions.index.AcsCodeIndex;
 import com.starfireaviation.questions.service.ACSService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,6 +31,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -43,16 +45,24 @@ public class ACSController {
     @Autowired
     private ACSService acsService;
 
+    /**
+     * AcsCodeIndex.
+     */
+    @Autowired
+    private AcsCodeIndex acsCodeIndex;
+
     /**
      * Gets list of question IDs matching search criteria.
      *
      * @param groupId optional groupId
      * @param code optional ACS code
+     * @param prefix optional ACS code prefix, matching the code and every code beneath it
      * @return list of ACS IDs
      */
     @GetMapping
     public List<Long> getACS(@RequestParam(value = "groupId", required = false) final Long groupId,
-                             @RequestParam(value = "code", required = false) final String code) {
+                             @RequestParam(value = "code", required = false) final String code,
+                             @RequestParam(value = "prefix", required = false) final String prefix) {
         final List<Long> ids = new ArrayList<>();
         if (groupId != null) {
             final List<Long> acsGroupIds = acsService
@@ -74,6 +84,14 @@ public class ACSController {
                 ids.retainAll(acsCodeIds);
             }
         }
+        if (prefix != null) {
+            final Set<Long> acsPrefixIds = acsCodeIndex.subtree(prefix);
+            if (groupId == null && code == null) {
+                ids.addAll(acsPrefixIds);
+            } else {
+                ids.retainAll(acsPrefixIds);
+            }
+        }
         return ids.stream().distinct().sorted().collect(Collectors.toList());
     }
 
@@ -17,6 +17,7 @@
 package com.starfireaviation.questions.controller;
 
 import com.starfireaviation.common.model.Answer;
+import com.starfireaviation.questions.model.ChoiceBackfillResult;
 import com.starfireaviation.questions.service.AnswerService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +26,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -42,26 +44,23 @@ public class AnswerController {
      * Gets an Answer by ID.
      *
      * @param id Answer ID
+     * @param questionId optional question ID of the entry, saving a key lookup
      * @return Answer
      */
     @GetMapping(path = "/{id}")
-    public Answer getAnswer(@PathVariable("id") final Long id) {
-        return answerService.get(id);
+    public Answer getAnswer(@PathVariable("id") final Long id,
+                            @RequestParam(value = "questionId", required = false) final Long questionId) {
+        return answerService.get(id, questionId);
     }
 
     /**
      * Updates all answers to have an answer choice value.
+     *
+     * @return ChoiceBackfillResult
      */
     @PostMapping(path = "/updatechoices")
-    public void updateChoices() {
-        answerService
-                .getAll()
-                .stream()
-                .filter(answer -> answer.getChoice() == null)
-                .forEach(answer -> {
-            answer.setChoice(answerService.deriveChoice(answer.getChoice(), answer.getQuestionId()));
-            answerService.save(answer);
-        });
+    public ChoiceBackfillResult updateChoices() {
+        return answerService.backfillChoices();
     }
 
     /**
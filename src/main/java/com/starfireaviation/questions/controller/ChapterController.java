@@ -25,8 +25,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/chapters")
@@ -38,6 +41,17 @@ public class ChapterController {
     @Autowired
     private ChapterService chapterService;
 
+    /**
+     * Gets the chapters of a group.
+     *
+     * @param groupId Group ID
+     * @return Chapters
+     */
+    @GetMapping
+    public List<Chapter> getChapters(@RequestParam("groupId") final Long groupId) {
+        return chapterService.findByGroupId(groupId);
+    }
+
     /**
      * Gets a Chapter by ID.
      *
@@ -16,7 +16,11 @@
 
 package com.starfireaviation.questions.controller;
 
+import com.starfireaviation.questions.service.WarmUpService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -27,12 +31,35 @@ import org.springframework.web.bind.annotation.RestController;
 public class HealthController {
 
     /**
-     * Endpoint to test application.
+     * WarmUpService.
+     */
+    @Autowired
+    private WarmUpService warmUpService;
+
+    /**
+     * Endpoint to test application. Reports unavailable once startup warm-up has failed for good, so the member is
+     * replaced rather than left out of rotation.
      *
-     * @return success
+     * @return success unless warm-up failed
      */
     @GetMapping()
-    public String health() {
-        return "OK";
+    public ResponseEntity<String> health() {
+        if (warmUpService.isFailed()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("WARM_UP_FAILED");
+        }
+        return ResponseEntity.ok("OK");
+    }
+
+    /**
+     * Readiness endpoint. Reports unavailable until startup warm-up has finished.
+     *
+     * @return success once warmed up
+     */
+    @GetMapping("/ready")
+    public ResponseEntity<String> ready() {
+        if (!warmUpService.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("WARMING_UP");
+        }
+        return ResponseEntity.ok("OK");
     }
 }
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.controller;
+
+import com.starfireaviation.common.exception.AccessDeniedException;
+import com.starfireaviation.common.exception.ResourceNotFoundException;
+import com.starfireaviation.common.service.DataService;
+import com.starfireaviation.questions.config.ApplicationProperties;
+import com.starfireaviation.questions.model.PracticeItem;
+import com.starfireaviation.questions.model.QuestionSearchCriteria;
+import com.starfireaviation.questions.service.PracticeService;
+import com.starfireaviation.questions.validation.UserValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * PracticeController.
+ */
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@RestController
+@RequestMapping({ "/api/practice" })
+public class PracticeController {
+
+        /**
+         * PracticeService.
+         */
+        @Autowired
+        private PracticeService practiceService;
+
+        /**
+         * ApplicationProperties.
+         */
+        @Autowired
+        private ApplicationProperties applicationProperties;
+
+        /**
+         * UserValidator.
+         */
+        @Autowired
+        private UserValidator userValidator;
+
+        /**
+         * DataService.
+         */
+        @Autowired
+        private DataService dataService;
+
+        /**
+         * Gets the questions the logged in user should practice next.
+         *
+         * @param groupAbbr             optional group abbreviation
+         * @param acsCode               optional ACS code
+         * @param acsPrefix             optional ACS code prefix
+         * @param chapter               optional chapter
+         * @param learningStatementCode optional learning statement code
+         * @param count                 maximum number of questions
+         * @param principal             Principal
+         * @return question IDs, in practice order
+         * @throws AccessDeniedException     when user doesn't have permission to
+         *                                   perform operation
+         */
+        @GetMapping(path = {"/next" })
+        public List<Long> next(@RequestParam(value = "groupAbbr", required = false) final String groupAbbr,
+                               @RequestParam(value = "acs", required = false) final String acsCode,
+                               @RequestParam(value = "acsPrefix", required = false) final String acsPrefix,
+                               @RequestParam(value = "chapter", required = false) final Long chapter,
+                               @RequestParam(value = "lsc", required = false) final String learningStatementCode,
+                               @RequestParam(value = "count", defaultValue = "10") final int count,
+                               final Principal principal)
+                throws AccessDeniedException {
+                userValidator.accessAnyAuthenticated(principal);
+                return practiceService.next(dataService.getUser(principal.getName()).getId(),
+                        QuestionSearchCriteria.of(groupAbbr, acsCode, acsPrefix, chapter, learningStatementCode),
+                        Math.max(1, Math.min(count, applicationProperties.getMaxQuizSize())));
+        }
+
+        /**
+         * Records the logged in user's answer to a practice question.
+         *
+         * @param questionId Long
+         * @param answerId   Long
+         * @param principal  Principal
+         * @return PracticeItem
+         * @throws ResourceNotFoundException when the question has no correct answer
+         * @throws AccessDeniedException     when user doesn't have permission to
+         *                                   perform operation
+         */
+        @PostMapping(path = {"/questions/{questionId}/answers" })
+        public PracticeItem answer(@PathVariable("questionId") final long questionId,
+                                   @RequestParam("answerId") final long answerId,
+                                   final Principal principal)
+                throws ResourceNotFoundException, AccessDeniedException {
+                userValidator.accessAnyAuthenticated(principal);
+                final PracticeItem item = practiceService.record(dataService.getUser(principal.getName()).getId(),
+                        questionId, answerId);
+                if (item == null) {
+                        throw new ResourceNotFoundException("Correct answer to question " + questionId
+                                + " was not found");
+                }
+                return item;
+        }
+
+}
@@ -25,6 +25,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -42,11 +43,13 @@ public class QuestionACSController {
      * Gets a Group by ID.
      *
      * @param id Group ID
+     * @param questionId optional question ID of the entry, saving a key lookup
      * @return Group
      */
     @GetMapping(path = "/{id}")
-    public QuestionACS getQuestionACS(@PathVariable("id") final Long id) {
-        return questionACSService.get(id);
+    public QuestionACS getQuestionACS(@PathVariable("id") final Long id,
+                                      @RequestParam(value = "questionId", required = false) final Long questionId) {
+        return questionACSService.get(id, questionId);
     }
 
     /**
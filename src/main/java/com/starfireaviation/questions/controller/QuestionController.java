@@ -18,20 +18,23 @@ package com.starfireaviation.questions.controller;
 
 import com.starfireaviation.common.model.ACS;
 import com.starfireaviation.common.model.Answer;
-import com.starfireaviation.common.model.Chapter;
 import com.starfireaviation.common.model.Question;
 import com.starfireaviation.common.model.Image;
+import com.starfireaviation.questions.config.ApplicationProperties;
+import com.starfireaviation.questions.index.QuestionHierarchy;
+import com.starfireaviation.questions.model.CorrectAnswer;
+import com.starfireaviation.questions.model.QuestionBundle;
+import com.starfireaviation.questions.model.QuestionIdPage;
+import com.starfireaviation.questions.model.QuestionSearchCriteria;
 import com.starfireaviation.questions.service.ACSService;
 import com.starfireaviation.questions.service.AnswerService;
-import com.starfireaviation.questions.service.ChapterService;
 import com.starfireaviation.questions.service.GroupService;
-import com.starfireaviation.questions.service.ImageService;
-import com.starfireaviation.questions.service.QuestionACSService;
-import com.starfireaviation.questions.service.QuestionRefImageService;
+import com.starfireaviation.questions.service.QuestionBundleService;
+import com.starfireaviation.questions.service.QuestionSearchService;
 import com.starfireaviation.questions.service.QuestionService;
 import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.LongIterator;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.util.CollectionUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -39,9 +42,15 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -50,28 +59,33 @@ import java.util.stream.Collectors;
 public class QuestionController {
 
     /**
-     * QuestionService.
+     * Newline-delimited JSON media type.
+     */
+    private static final String NDJSON = "application/x-ndjson";
+
+    /**
+     * ApplicationProperties.
      */
     @Autowired
-    private QuestionService questionService;
+    private ApplicationProperties applicationProperties;
 
     /**
-     * AnswerService.
+     * QuestionService.
      */
     @Autowired
-    private AnswerService answerService;
+    private QuestionService questionService;
 
     /**
-     * ImageService.
+     * AnswerService.
      */
     @Autowired
-    private ImageService imageService;
+    private AnswerService answerService;
 
     /**
-     * ChapterService.
+     * QuestionHierarchy.
      */
     @Autowired
-    private ChapterService chapterService;
+    private QuestionHierarchy questionHierarchy;
 
     /**
      * GroupService.
@@ -86,16 +100,16 @@ public class QuestionController {
     private ACSService acsService;
 
     /**
-     * QuestionACSService.
+     * QuestionSearchService.
      */
     @Autowired
-    private QuestionACSService questionACSService;
+    private QuestionSearchService questionSearchService;
 
     /**
-     * QuestionRefImageService.
+     * QuestionBundleService.
      */
     @Autowired
-    private QuestionRefImageService questionRefImageService;
+    private QuestionBundleService questionBundleService;
 
     /**
      * Saves a Question.
@@ -115,20 +129,75 @@ public class QuestionController {
      * @param groupAbbr optional group abbreviation
      * @param chapter optional chapter
      * @param acsCode optional ACS code
+     * @param acsPrefix optional ACS code prefix
      * @param learningStatementCode optional learning statement code
-     * @return list of question ids
+     * @return list of question ids, every question when no criteria are given
      */
     @GetMapping
     public List<Long> getQuestions(@RequestParam(value = "groupAbbr", required = false) final String groupAbbr,
                                    @RequestParam(value = "acs", required = false) final String acsCode,
+                                   @RequestParam(value = "acsPrefix", required = false) final String acsPrefix,
                                    @RequestParam(value = "chapter", required = false) final Long chapter,
                                    @RequestParam(value = "lsc", required = false) final String learningStatementCode) {
-        final List<Long> questionIds = new ArrayList<>();
-        getQuestionIdsForGroup(groupAbbr, questionIds);
-        getQuestionIdsForChapter(chapter, questionIds);
-        getQuestionIdsForACSCode(acsCode, questionIds);
-        getQuestionIdsForLSC(learningStatementCode, questionIds);
-        return questionIds.stream().distinct().collect(Collectors.toList());
+        return questionSearchService.searchIds(
+                QuestionSearchCriteria.of(groupAbbr, acsCode, acsPrefix, chapter, learningStatementCode));
+    }
+
+    /**
+     * Streams question IDs matching search criteria as newline-delimited JSON, one ID per line.
+     *
+     * @param groupAbbr optional group abbreviation
+     * @param chapter optional chapter
+     * @param acsCode optional ACS code
+     * @param acsPrefix optional ACS code prefix
+     * @param learningStatementCode optional learning statement code
+     * @return question ids, written as they are produced
+     */
+    @GetMapping(produces = NDJSON)
+    public StreamingResponseBody streamQuestions(
+            @RequestParam(value = "groupAbbr", required = false) final String groupAbbr,
+            @RequestParam(value = "acs", required = false) final String acsCode,
+            @RequestParam(value = "acsPrefix", required = false) final String acsPrefix,
+            @RequestParam(value = "chapter", required = false) final Long chapter,
+            @RequestParam(value = "lsc", required = false) final String learningStatementCode) {
+        final LongIterator ids = questionSearchService
+                .search(QuestionSearchCriteria.of(groupAbbr, acsCode, acsPrefix, chapter, learningStatementCode))
+                .getLongIterator();
+        return outputStream -> {
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            while (ids.hasNext()) {
+                writer.write(Long.toString(ids.next()));
+                writer.write('\n');
+            }
+            writer.flush();
+        };
+    }
+
+    /**
+     * Gets one page of question IDs matching search criteria.
+     *
+     * @param groupAbbr optional group abbreviation
+     * @param chapter optional chapter
+     * @param acsCode optional ACS code
+     * @param acsPrefix optional ACS code prefix
+     * @param learningStatementCode optional learning statement code
+     * @param cursor nextCursor of the previous page, omitted for the first page
+     * @param limit maximum number of IDs to return
+     * @return QuestionIdPage
+     */
+    @GetMapping(path = "/page")
+    public QuestionIdPage getQuestionPage(
+            @RequestParam(value = "groupAbbr", required = false) final String groupAbbr,
+            @RequestParam(value = "acs", required = false) final String acsCode,
+            @RequestParam(value = "acsPrefix", required = false) final String acsPrefix,
+            @RequestParam(value = "chapter", required = false) final Long chapter,
+            @RequestParam(value = "lsc", required = false) final String learningStatementCode,
+            @RequestParam(value = "cursor", required = false) final String cursor,
+            @RequestParam(value = "limit", defaultValue = "100") final int limit) {
+        return questionSearchService.searchPage(
+                QuestionSearchCriteria.of(groupAbbr, acsCode, acsPrefix, chapter, learningStatementCode),
+                cursor,
+                Math.max(1, Math.min(limit, applicationProperties.getMaxPageSize())));
     }
 
     /**
@@ -139,14 +208,7 @@ public class QuestionController {
      */
     @GetMapping(path = "/{groupAbbr}/chapters")
     public List<String> getChaptersForCourse(@PathVariable("groupAbbr") final String groupAbbr) {
-        final List<String> chapterNames = new ArrayList<>();
-        groupService.findByGroupAbbr(groupAbbr).forEach(group ->
-                chapterNames.addAll(chapterService
-                        .findByGroupId(group.getGroupId())
-                        .stream()
-                        .map(Chapter::getChapterName)
-                        .collect(Collectors.toList())));
-        return chapterNames.stream().distinct().collect(Collectors.toList());
+        return questionHierarchy.getChapterNames(groupAbbr).stream().distinct().collect(Collectors.toList());
     }
 
     /**
@@ -180,6 +242,17 @@ public class QuestionController {
         return questionService.get(id);
     }
 
+    /**
+     * Gets a question with its answers, images, ACS codes and references in one response.
+     *
+     * @param id question ID
+     * @return QuestionBundle
+     */
+    @GetMapping(path = "/{questionId}/bundle")
+    public QuestionBundle getQuestionBundle(@PathVariable("questionId") final Long id) {
+        return questionBundleService.get(id);
+    }
+
     /**
      * Gets answers by Question ID.
      *
@@ -192,116 +265,60 @@ public class QuestionController {
     }
 
     /**
-     * Gets images by Question ID.
+     * Marks an answer as the correct answer to its question.
      *
      * @param questionId question ID
-     * @return Image list
+     * @param answerId answer ID
+     * @return CorrectAnswer
      */
-    @GetMapping(path = "/{questionId}/images")
-    public List<Image> getQuestionImages(@PathVariable("questionId") final Long questionId) {
-        final List<Image> images = new ArrayList<>();
-        questionRefImageService
-                .findByQuestionId(questionId)
-                .forEach(questionRefImage -> {
-                    images.add(imageService.get(questionRefImage.getImageId()));
-                });
-        return images;
+    @PutMapping(path = "/{questionId}/answers/{answerId}/correct")
+    public CorrectAnswer markCorrectAnswer(@PathVariable("questionId") final Long questionId,
+                                           @PathVariable("answerId") final Long answerId) {
+        return answerService.markCorrect(questionId, answerId);
     }
 
     /**
-     * Gets ACS Code for a question ID.
+     * Gets images by Question ID.
      *
      * @param questionId question ID
-     * @return ACS code
-     */
-    @GetMapping(path = "/{questionId}/acs")
-    public List<String> getACSCodesForQuestionId(@PathVariable("questionId") final Long questionId) {
-        final List<String> acsCodes = new ArrayList<>();
-        questionACSService
-                .findByQuestionId(questionId)
-                .forEach(questionACS -> acsCodes
-                        .add(acsService.get(questionACS.getAcsId()).getCode()));
-        return acsCodes.stream().distinct().sorted().collect(Collectors.toList());
-    }
-
-    /**
-     * Updates list of questionIds for the given learning statement code.
-     *
-     * @param learningStatementCode learning statement code
-     * @param questionIds question ID list
+     * @return Image list
      */
-    private void getQuestionIdsForLSC(final String learningStatementCode, final List<Long> questionIds) {
-        if (learningStatementCode != null) {
-            final List<Long> list = questionService
-                    .findByLearningStatementCode(learningStatementCode)
-                    .stream()
-                    .map(Question::getId).collect(Collectors.toList());
-            if (CollectionUtils.isEmpty(questionIds)) {
-                questionIds.addAll(list);
-            } else {
-                questionIds.retainAll(list);
-            }
-        }
+    @GetMapping(path = "/{questionId}/images")
+    public List<Image> getQuestionImages(@PathVariable("questionId") final Long questionId) {
+        return questionBundleService.getImages(questionId);
     }
 
     /**
-     * Updates list of questionIds for the given ACS code.
+     * Gets images for several questions.
      *
-     * @param acsCode ACS code
-     * @param questionIds question ID list
+     * @param ids question IDs
+     * @return Image lists by question ID
      */
-    private void getQuestionIdsForACSCode(final String acsCode, final List<Long> questionIds) {
-        if (acsCode != null) {
-            final List<Long> list = new ArrayList<>();
-            acsService
-                    .findByCode(acsCode)
-                    .forEach(acs -> questionACSService
-                            .findByAcsId(acs.getId())
-                            .forEach(questionACS -> list.add(questionACS.getQuestionId())));
-            if (CollectionUtils.isEmpty(questionIds)) {
-                questionIds.addAll(list);
-            } else {
-                questionIds.retainAll(list);
-            }
-        }
+    @GetMapping(path = "/images")
+    public Map<Long, List<Image>> getQuestionImages(@RequestParam("ids") final List<Long> ids) {
+        return questionBundleService.getImages(ids);
     }
 
     /**
-     * Updates list of questionIds for the given group.
+     * Gets ACS Code for a question ID.
      *
-     * @param groupAbbr group abbreviation
-     * @param questionIds question ID list
+     * @param questionId question ID
+     * @return ACS code
      */
-    private void getQuestionIdsForGroup(final String groupAbbr, final List<Long> questionIds) {
-        if (groupAbbr != null) {
-            groupService
-                    .findByGroupAbbr(groupAbbr)
-                    .forEach(group -> chapterService
-                            .findByGroupId(group.getGroupId())
-                            .forEach(chapter -> questionService
-                                    .findByChapterId(chapter.getChapterId())
-                                    .forEach(question -> questionIds.add(question.getId()))));
-        }
+    @GetMapping(path = "/{questionId}/acs")
+    public List<String> getACSCodesForQuestionId(@PathVariable("questionId") final Long questionId) {
+        return questionBundleService.getACSCodes(questionId);
     }
 
     /**
-     * Updates list of questionIds for the given chapter.
+     * Gets ACS codes for several questions.
      *
-     * @param chapter chapter
-     * @param questionIds question ID list
+     * @param ids question IDs
+     * @return ACS codes by question ID
      */
-    private void getQuestionIdsForChapter(final Long chapter, final List<Long> questionIds) {
-        if (chapter != null) {
-            final List<Long> list = new ArrayList<>();
-            questionService
-                    .findByChapterId(chapter)
-                    .forEach(question -> list.add(question.getId()));
-            if (CollectionUtils.isEmpty(questionIds)) {
-                questionIds.addAll(list);
-            } else {
-                questionIds.retainAll(list);
-            }
-        }
+    @GetMapping(path = "/acs")
+    public Map<Long, List<String>> getACSCodesForQuestionIds(@RequestParam("ids") final List<Long> ids) {
+        return questionBundleService.getACSCodes(ids);
     }
 
 }
@@ -25,6 +25,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -42,11 +43,14 @@ public class QuestionRefImageController {
      * Gets a QuestionRefImage by ID.
      *
      * @param id QuestionRefImage ID
+     * @param questionId optional question ID of the entry, saving a key lookup
      * @return QuestionRefImage
      */
     @GetMapping(path = "/{id}")
-    public QuestionRefImage getQuestionRefImage(@PathVariable("id") final Long id) {
-        return questionRefImageService.get(id);
+    public QuestionRefImage getQuestionRefImage(
+            @PathVariable("id") final Long id,
+            @RequestParam(value = "questionId", required = false) final Long questionId) {
+        return questionRefImageService.get(id, questionId);
     }
 
     /**
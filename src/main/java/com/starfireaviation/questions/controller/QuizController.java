@@ -20,6 +20,14 @@ import com.starfireaviation.common.exception.AccessDeniedException;
 import com.starfireaviation.common.exception.InvalidPayloadException;
 import com.starfireaviation.common.exception.ResourceNotFoundException;
 import com.starfireaviation.common.model.Quiz;
+import com.starfireaviation.questions.config.ApplicationProperties;
+import com.starfireaviation.questions.index.AnswerKeyIndex;
+import com.starfireaviation.questions.model.AnswerSheet;
+import com.starfireaviation.questions.model.GeneratedQuiz;
+import com.starfireaviation.questions.model.QuizGenerationRequest;
+import com.starfireaviation.questions.model.QuizGrade;
+import com.starfireaviation.questions.model.QuizSummaryPage;
+import com.starfireaviation.questions.service.QuizGenerationService;
 import com.starfireaviation.questions.service.QuizService;
 import com.starfireaviation.questions.validation.QuizValidator;
 import com.starfireaviation.questions.validation.UserValidator;
@@ -31,9 +39,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.security.Principal;
+import java.util.List;
 
 /**
  * QuizController.
@@ -43,12 +53,30 @@ import java.security.Principal;
 @RequestMapping({ "/api/quizzes" })
 public class QuizController {
 
+        /**
+         * ApplicationProperties.
+         */
+        @Autowired
+        private ApplicationProperties applicationProperties;
+
         /**
          * QuizService.
          */
         @Autowired
         private QuizService quizService;
 
+        /**
+         * QuizGenerationService.
+         */
+        @Autowired
+        private QuizGenerationService quizGenerationService;
+
+        /**
+         * AnswerKeyIndex.
+         */
+        @Autowired
+        private AnswerKeyIndex answerKeyIndex;
+
         /**
          * QuizValidator.
          */
@@ -99,4 +127,81 @@ public class QuizController {
                 return quizService.get(quizId);
         }
 
+        /**
+         * Lists the quizzes of a lesson plan, one page at a time.
+         *
+         * @param lessonPlanId Long
+         * @param cursor       nextCursor of the previous page, omitted for the first page
+         * @param limit        maximum number of quizzes to return
+         * @param principal    Principal
+         * @return QuizSummaryPage
+         * @throws AccessDeniedException     when user doesn't have permission to
+         *                                   perform operation
+         */
+        @GetMapping
+        public QuizSummaryPage list(@RequestParam("lessonPlanId") final Long lessonPlanId,
+                                    @RequestParam(value = "cursor", required = false) final String cursor,
+                                    @RequestParam(value = "limit", defaultValue = "100") final int limit,
+                                    final Principal principal)
+                throws AccessDeniedException {
+                userValidator.accessAnyAuthenticated(principal);
+                return quizService.findSummariesByLessonPlanId(lessonPlanId, cursor,
+                        Math.max(1, Math.min(limit, applicationProperties.getMaxPageSize())));
+        }
+
+        /**
+         * Generates a quiz by sampling questions matching the given criteria and quotas.
+         *
+         * @param request   QuizGenerationRequest
+         * @param principal Principal
+         * @return GeneratedQuiz
+         * @throws AccessDeniedException     when user doesn't have permission to
+         *                                   perform operation
+         * @throws InvalidPayloadException   when invalid data is provided
+         */
+        @PostMapping(path = {"/generate" })
+        public GeneratedQuiz generate(@RequestBody final QuizGenerationRequest request,
+                                      final Principal principal)
+                throws InvalidPayloadException,
+                AccessDeniedException {
+                quizValidator.validate(request);
+                userValidator.accessAnyAuthenticated(principal);
+                return quizGenerationService.generate(request);
+        }
+
+        /**
+         * Gets the question IDs of a quiz.
+         *
+         * @param quizId    Long
+         * @param principal Principal
+         * @return question IDs, in order
+         * @throws ResourceNotFoundException when quiz is not found
+         * @throws AccessDeniedException     when user doesn't have permission to
+         *                                   perform operation
+         */
+        @GetMapping(path = {"/{quizId}/questions" })
+        public List<Long> getQuestionIds(@PathVariable("quizId") final long quizId, final Principal principal)
+                throws ResourceNotFoundException, AccessDeniedException {
+                userValidator.accessAnyAuthenticated(principal);
+                return quizService.getQuestionIds(quizId);
+        }
+
+        /**
+         * Grades an answer sheet against the answer key.
+         *
+         * @param sheet     AnswerSheet
+         * @param principal Principal
+         * @return QuizGrade
+         * @throws AccessDeniedException     when user doesn't have permission to
+         *                                   perform operation
+         * @throws InvalidPayloadException   when invalid data is provided
+         */
+        @PostMapping(path = {"/grade" })
+        public QuizGrade grade(@RequestBody final AnswerSheet sheet, final Principal principal)
+                throws InvalidPayloadException, AccessDeniedException {
+                quizValidator.validate(sheet);
+                userValidator.accessAnyAuthenticated(principal);
+                return answerKeyIndex.grade(sheet);
+        }
+
 }
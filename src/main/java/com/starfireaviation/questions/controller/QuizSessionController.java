@@ -0,0 +1,239 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.controller;
+
+import com.starfireaviation.common.exception.AccessDeniedException;
+import com.starfireaviation.common.exception.ResourceNotFoundException;
+import com.starfireaviation.common.service.DataService;
+import com.starfireaviation.questions.index.AnswerKeyIndex;
+import com.starfireaviation.questions.model.AnswerSheet;
+import com.starfireaviation.questions.model.QuizGrade;
+import com.starfireaviation.questions.model.QuizSession;
+import com.starfireaviation.questions.service.QuizSessionService;
+import com.starfireaviation.questions.validation.UserValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.Principal;
+
+/**
+ * QuizSessionController.
+ */
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@RestController
+@RequestMapping({ "/api/quizzes" })
+public class QuizSessionController {
+
+        /**
+         * QuizSessionService.
+         */
+        @Autowired
+        private QuizSessionService quizSessionService;
+
+        /**
+         * AnswerKeyIndex.
+         */
+        @Autowired
+        private AnswerKeyIndex answerKeyIndex;
+
+        /**
+         * UserValidator.
+         */
+        @Autowired
+        private UserValidator userValidator;
+
+        /**
+         * DataService.
+         */
+        @Autowired
+        private DataService dataService;
+
+        /**
+         * Starts a quiz.
+         *
+         * @param quizId    Long
+         * @param principal Principal
+         * @return QuizSession
+         * @throws ResourceNotFoundException when quiz is not found
+         * @throws AccessDeniedException     when user doesn't have permission to
+         *                                   perform operation
+         */
+        @PostMapping(path = {"/{quizId}/sessions" })
+        public QuizSession start(@PathVariable("quizId") final long quizId, final Principal principal)
+                throws ResourceNotFoundException, AccessDeniedException {
+                userValidator.accessAnyAuthenticated(principal);
+                return found(quizSessionService.start(quizId, dataService.getUser(principal.getName()).getId()),
+                        "Quiz " + quizId);
+        }
+
+        /**
+         * Gets a quiz session.
+         *
+         * @param sessionId Long
+         * @param principal Principal
+         * @return QuizSession
+         * @throws ResourceNotFoundException when session is not found
+         * @throws AccessDeniedException     when user doesn't have permission to
+         *                                   perform operation
+         */
+        @GetMapping(path = {"/sessions/{sessionId}" })
+        public QuizSession get(@PathVariable("sessionId") final long sessionId, final Principal principal)
+                throws ResourceNotFoundException, AccessDeniedException {
+                return owned(sessionId, principal);
+        }
+
+        /**
+         * Answers a question.
+         *
+         * @param sessionId  Long
+         * @param questionId Long
+         * @param answerId   Long
+         * @param principal  Principal
+         * @return QuizSession
+         * @throws ResourceNotFoundException when session is not found
+         * @throws AccessDeniedException     when user doesn't have permission to
+         *                                   perform operation
+         */
+        @PutMapping(path = {"/sessions/{sessionId}/answers/{questionId}" })
+        public QuizSession answer(@PathVariable("sessionId") final long sessionId,
+                                  @PathVariable("questionId") final long questionId,
+                                  @RequestParam("answerId") final long answerId,
+                                  final Principal principal)
+                throws ResourceNotFoundException, AccessDeniedException {
+                owned(sessionId, principal);
+                return found(quizSessionService.answer(sessionId, questionId, answerId), "Quiz session " + sessionId);
+        }
+
+        /**
+         * Adds a question.
+         *
+         * @param sessionId  Long
+         * @param questionId Long
+         * @param principal  Principal
+         * @return QuizSession
+         * @throws ResourceNotFoundException when session is not found
+         * @throws AccessDeniedException     when user doesn't have permission to
+         *                                   perform operation
+         */
+        @PostMapping(path = {"/sessions/{sessionId}/questions/{questionId}" })
+        public QuizSession addQuestion(@PathVariable("sessionId") final long sessionId,
+                                       @PathVariable("questionId") final long questionId,
+                                       final Principal principal)
+                throws ResourceNotFoundException, AccessDeniedException {
+                owned(sessionId, principal);
+                return found(quizSessionService.addQuestion(sessionId, questionId), "Quiz session " + sessionId);
+        }
+
+        /**
+         * Removes a question.
+         *
+         * @param sessionId  Long
+         * @param questionId Long
+         * @param principal  Principal
+         * @return QuizSession
+         * @throws ResourceNotFoundException when session is not found
+         * @throws AccessDeniedException     when user doesn't have permission to
+         *                                   perform operation
+         */
+        @DeleteMapping(path = {"/sessions/{sessionId}/questions/{questionId}" })
+        public QuizSession removeQuestion(@PathVariable("sessionId") final long sessionId,
+                                          @PathVariable("questionId") final long questionId,
+                                          final Principal principal)
+                throws ResourceNotFoundException, AccessDeniedException {
+                owned(sessionId, principal);
+                return found(quizSessionService.removeQuestion(sessionId, questionId), "Quiz session " + sessionId);
+        }
+
+        /**
+         * Completes a quiz.
+         *
+         * @param sessionId Long
+         * @param principal Principal
+         * @return QuizSession
+         * @throws ResourceNotFoundException when session is not found
+         * @throws AccessDeniedException     when user doesn't have permission to
+         *                                   perform operation
+         */
+        @PostMapping(path = {"/sessions/{sessionId}/complete" })
+        public QuizSession complete(@PathVariable("sessionId") final long sessionId, final Principal principal)
+                throws ResourceNotFoundException, AccessDeniedException {
+                owned(sessionId, principal);
+                return found(quizSessionService.complete(sessionId), "Quiz session " + sessionId);
+        }
+
+        /**
+         * Grades a quiz session against the answer key.
+         *
+         * @param sessionId Long
+         * @param principal Principal
+         * @return QuizGrade
+         * @throws ResourceNotFoundException when session is not found
+         * @throws AccessDeniedException     when user doesn't have permission to
+         *                                   perform operation
+         */
+        @PostMapping(path = {"/sessions/{sessionId}/grade" })
+        public QuizGrade grade(@PathVariable("sessionId") final long sessionId, final Principal principal)
+                throws ResourceNotFoundException, AccessDeniedException {
+                final QuizSession session = owned(sessionId, principal);
+                final AnswerSheet sheet = new AnswerSheet();
+                sheet.setQuestionIds(session.getQuestionIds());
+                sheet.setAnswerIds(session.getAnswerIds());
+                return answerKeyIndex.grade(sheet);
+        }
+
+        /**
+         * Gets a session, if the user taking it, an admin or an instructor is logged in.
+         *
+         * @param sessionId Long
+         * @param principal Principal
+         * @return QuizSession
+         * @throws ResourceNotFoundException when session is not found
+         * @throws AccessDeniedException     when user doesn't have permission to
+         *                                   perform operation
+         */
+        private QuizSession owned(final long sessionId, final Principal principal)
+                throws ResourceNotFoundException, AccessDeniedException {
+                final QuizSession session = found(quizSessionService.get(sessionId), "Quiz session " + sessionId);
+                userValidator.accessAdminInstructorOrSpecificUser(session.getUserId(), principal);
+                return session;
+        }
+
+        /**
+         * Ensures a resource was found.
+         *
+         * @param resource resource
+         * @param description resource description
+         * @param <T> resource type
+         * @return resource
+         * @throws ResourceNotFoundException when resource is null
+         */
+        private static <T> T found(final T resource, final String description) throws ResourceNotFoundException {
+                if (resource == null) {
+                        throw new ResourceNotFoundException(description + " was not found");
+                }
+                return resource;
+        }
+
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.controller;
+
+import com.hazelcast.sql.SqlResult;
+import com.starfireaviation.common.exception.AccessDeniedException;
+import com.starfireaviation.questions.model.SqlQuery;
+import com.starfireaviation.questions.service.SqlQueryService;
+import com.starfireaviation.questions.validation.UserValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.security.Principal;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/sql")
+public class SqlController {
+
+    /**
+     * Newline-delimited JSON media type.
+     */
+    private static final String NDJSON = "application/x-ndjson";
+
+    /**
+     * SqlQueryService.
+     */
+    @Autowired
+    private SqlQueryService sqlQueryService;
+
+    /**
+     * UserValidator.
+     */
+    @Autowired
+    private UserValidator userValidator;
+
+    /**
+     * Runs a read-only SQL query and streams the rows as newline-delimited JSON objects keyed by column name.
+     *
+     * @param query SqlQuery
+     * @param principal Principal
+     * @return rows, written as they are produced
+     * @throws AccessDeniedException when user doesn't have permission to
+     *                               perform operation
+     */
+    @PostMapping(produces = NDJSON)
+    public StreamingResponseBody query(@RequestBody final SqlQuery query, final Principal principal)
+            throws AccessDeniedException {
+        userValidator.accessAdminOrInstructor(principal);
+        final SqlResult result = sqlQueryService.execute(query);
+        return outputStream -> sqlQueryService.writeRows(result, outputStream);
+    }
+
+}
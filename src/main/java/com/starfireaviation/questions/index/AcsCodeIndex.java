@@ -0,0 +1,208 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.index;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+import com.starfireaviation.common.model.ACS;
+import com.starfireaviation.questions.persistence.StoredEntries;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Sorted index of ACS codes supporting hierarchical (area.task.element) subtree queries.
+ *
+ * Codes are held normalized in lexical order, so every code below a given node is one contiguous range bounded by
+ * "node." and "node/" ('/' sorts directly after '.').
+ */
+@Slf4j
+@Component
+public class AcsCodeIndex implements RebuildableIndex {
+
+    /**
+     * ACS code segment separator.
+     */
+    private static final char SEPARATOR = '.';
+
+    /**
+     * Character sorting directly after the separator.
+     */
+    private static final char SEPARATOR_UPPER_BOUND = SEPARATOR + 1;
+
+    /**
+     * HazelcastInstance.
+     */
+    private final HazelcastInstance hazelcast;
+
+    /**
+     * Guards the index.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * ACS IDs by normalized code.
+     */
+    private final NavigableMap<String, Set<Long>> idsByCode = new TreeMap<>();
+
+    /**
+     * ACS Cache.
+     */
+    private final IMap<Long, ACS> acs;
+
+    /**
+     * AcsCodeIndex.
+     *
+     * @param hazelcastInstance HazelcastInstance
+     */
+    public AcsCodeIndex(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+        hazelcast = hazelcastInstance;
+        acs = hazelcastInstance.getMap("acs");
+    }
+
+    /**
+     * Registers an entry listener. The index is filled by rebuild() once the maps are loaded.
+     */
+    @PostConstruct
+    public void init() {
+        acs.addEntryListener(new ACSListener(), true);
+    }
+
+    /**
+     * Rebuilds the index from current map contents.
+     */
+    @Override
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            idsByCode.clear();
+            StoredEntries.<ACS>forEach(hazelcast, acs.getName(), this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the IDs of ACS entries whose code is the given code or lies beneath it.
+     *
+     * "PA.I" matches "PA.I", "PA.I.A" and "PA.I.A.K1", but not "PA.II". A blank prefix matches every code.
+     *
+     * @param prefix ACS code prefix on a segment boundary, case-insensitive
+     * @return ACS IDs
+     */
+    public Set<Long> subtree(final String prefix) {
+        String node = NormalizedCodeExtractor.normalize(prefix);
+        if (node == null) {
+            node = "";
+        }
+        while (!node.isEmpty() && node.charAt(node.length() - 1) == SEPARATOR) {
+            node = node.substring(0, node.length() - 1);
+        }
+        final Set<Long> ids = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            if (node.isEmpty()) {
+                idsByCode.values().forEach(ids::addAll);
+            } else {
+                ids.addAll(idsByCode.getOrDefault(node, Set.of()));
+                idsByCode.subMap(node + SEPARATOR, true, node + SEPARATOR_UPPER_BOUND, false)
+                        .values()
+                        .forEach(ids::addAll);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ids;
+    }
+
+    /**
+     * Adds an ACS to the index.
+     *
+     * @param entry ACS
+     */
+    private void add(final ACS entry) {
+        if (entry == null || entry.getId() == null || entry.getCode() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            idsByCode.computeIfAbsent(NormalizedCodeExtractor.normalize(entry.getCode()), k -> new HashSet<>())
+                    .add(entry.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an ACS from the index.
+     *
+     * @param entry ACS
+     */
+    private void remove(final ACS entry) {
+        if (entry == null || entry.getId() == null || entry.getCode() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            final String code = NormalizedCodeExtractor.normalize(entry.getCode());
+            final Set<Long> ids = idsByCode.get(code);
+            if (ids != null) {
+                ids.remove(entry.getId());
+                if (ids.isEmpty()) {
+                    idsByCode.remove(code);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies "acs" map events to the index.
+     */
+    private class ACSListener implements EntryAddedListener<Long, ACS>, EntryUpdatedListener<Long, ACS>,
+            EntryRemovedListener<Long, ACS> {
+
+        @Override
+        public void entryAdded(final EntryEvent<Long, ACS> event) {
+            add(event.getValue());
+        }
+
+        @Override
+        public void entryUpdated(final EntryEvent<Long, ACS> event) {
+            remove(event.getOldValue());
+            add(event.getValue());
+        }
+
+        @Override
+        public void entryRemoved(final EntryEvent<Long, ACS> event) {
+            remove(event.getOldValue());
+        }
+    }
+}
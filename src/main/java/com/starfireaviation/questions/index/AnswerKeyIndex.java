@@ -0,0 +1,211 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.index;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryLoadedListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+import com.starfireaviation.questions.model.AnswerSheet;
+import com.starfireaviation.questions.model.CorrectAnswer;
+import com.starfireaviation.questions.model.QuizGrade;
+import com.starfireaviation.questions.persistence.StoredEntries;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Answer key: the correct answer ID of every question, in a primitive long-keyed map.
+ *
+ * Kept current from an entry listener on the "correctanswers" map, so grading a sheet is one array lookup per
+ * question.
+ */
+@Slf4j
+@Component
+public class AnswerKeyIndex implements RebuildableIndex {
+
+    /**
+     * Value returned for questions without a known correct answer.
+     */
+    public static final long NO_ANSWER = 0L;
+
+    /**
+     * HazelcastInstance.
+     */
+    private final HazelcastInstance hazelcast;
+
+    /**
+     * CorrectAnswer Cache, keyed by question ID.
+     */
+    private final IMap<Long, CorrectAnswer> correctAnswerMap;
+
+    /**
+     * Guards the key.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Correct answer ID by question ID.
+     */
+    private final LongLongHashMap correctAnswers = new LongLongHashMap();
+
+    /**
+     * AnswerKeyIndex.
+     *
+     * @param hazelcastInstance HazelcastInstance
+     */
+    public AnswerKeyIndex(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+        hazelcast = hazelcastInstance;
+        correctAnswerMap = hazelcastInstance.getMap("correctanswers");
+    }
+
+    /**
+     * Registers the entry listener. The key is filled by rebuild() once the maps are loaded.
+     */
+    @PostConstruct
+    public void init() {
+        correctAnswerMap.addEntryListener(new CorrectAnswerListener(), true);
+    }
+
+    /**
+     * Rebuilds the key from current map contents.
+     */
+    @Override
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            correctAnswers.clear();
+            StoredEntries.<CorrectAnswer>forEach(hazelcast, correctAnswerMap.getName(), this::add);
+            log.info("Answer key holds {} questions", correctAnswers.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Scores an answer sheet.
+     *
+     * @param sheet AnswerSheet, with as many answer IDs as question IDs
+     * @return QuizGrade
+     */
+    public QuizGrade grade(final AnswerSheet sheet) {
+        final long[] questionIds = sheet.getQuestionIds();
+        final long[] answerIds = sheet.getAnswerIds();
+        final QuizGrade grade = new QuizGrade();
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < questionIds.length; i++) {
+                final long correct = correctAnswers.get(questionIds[i], NO_ANSWER);
+                if (correct == NO_ANSWER) {
+                    grade.getUngradedQuestionIds().add(questionIds[i]);
+                } else if (correct == answerIds[i]) {
+                    grade.setCorrect(grade.getCorrect() + 1);
+                } else {
+                    grade.getIncorrectQuestionIds().add(questionIds[i]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        grade.setTotal(questionIds.length - grade.getUngradedQuestionIds().size());
+        return grade;
+    }
+
+    /**
+     * Gets the correct answer to a question.
+     *
+     * @param questionId question ID
+     * @return answer ID, NO_ANSWER when not known
+     */
+    public long getCorrectAnswerId(final long questionId) {
+        lock.readLock().lock();
+        try {
+            return correctAnswers.get(questionId, NO_ANSWER);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Records the correct answer to a question.
+     *
+     * @param correctAnswer CorrectAnswer
+     */
+    private void add(final CorrectAnswer correctAnswer) {
+        if (correctAnswer == null || correctAnswer.getId() == null || correctAnswer.getAnswerId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            correctAnswers.put(correctAnswer.getId(), correctAnswer.getAnswerId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forgets the correct answer to a question.
+     *
+     * @param questionId question ID
+     */
+    private void remove(final Long questionId) {
+        if (questionId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            correctAnswers.remove(questionId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Keeps the key current as correct answers change.
+     */
+    private class CorrectAnswerListener implements EntryAddedListener<Long, CorrectAnswer>,
+            EntryUpdatedListener<Long, CorrectAnswer>, EntryRemovedListener<Long, CorrectAnswer>,
+            EntryLoadedListener<Long, CorrectAnswer> {
+
+        @Override
+        public void entryAdded(final EntryEvent<Long, CorrectAnswer> event) {
+            add(event.getValue());
+        }
+
+        @Override
+        public void entryUpdated(final EntryEvent<Long, CorrectAnswer> event) {
+            add(event.getValue());
+        }
+
+        @Override
+        public void entryRemoved(final EntryEvent<Long, CorrectAnswer> event) {
+            remove(event.getKey());
+        }
+
+        @Override
+        public void entryLoaded(final EntryEvent<Long, CorrectAnswer> event) {
+            add(event.getValue());
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.index;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from long to long, storing keys and values in primitive arrays.
+ *
+ * Uses linear probing and backward-shift deletion, so lookups never box and removals leave no tombstones. Not thread
+ * safe.
+ */
+final class LongLongHashMap {
+
+    /**
+     * Initial number of slots, a power of two.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Multiplier spreading keys over the slots (the 64-bit golden ratio).
+     */
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Key marking an empty slot. An entry with this key is held outside the arrays.
+     */
+    private static final long FREE = 0L;
+
+    /**
+     * Keys by slot.
+     */
+    private long[] keys = new long[INITIAL_CAPACITY];
+
+    /**
+     * Values by slot.
+     */
+    private long[] values = new long[INITIAL_CAPACITY];
+
+    /**
+     * Number of entries held in the arrays.
+     */
+    private int size;
+
+    /**
+     * Whether the FREE key is present.
+     */
+    private boolean hasFreeKey;
+
+    /**
+     * Value of the FREE key.
+     */
+    private long freeKeyValue;
+
+    /**
+     * Gets the value of a key.
+     *
+     * @param key key
+     * @param missing value returned when the key is absent
+     * @return value
+     */
+    long get(final long key, final long missing) {
+        if (key == FREE) {
+            if (hasFreeKey) {
+                return freeKeyValue;
+            }
+            return missing;
+        }
+        final int mask = keys.length - 1;
+        for (int i = slot(key, mask); keys[i] != FREE; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Sets the value of a key.
+     *
+     * @param key key
+     * @param value value
+     */
+    void put(final long key, final long value) {
+        if (key == FREE) {
+            hasFreeKey = true;
+            freeKeyValue = value;
+            return;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        final int mask = keys.length - 1;
+        int i = slot(key, mask);
+        while (keys[i] != FREE && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        if (keys[i] == FREE) {
+            keys[i] = key;
+            size++;
+        }
+        values[i] = value;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key key
+     */
+    void remove(final long key) {
+        if (key == FREE) {
+            hasFreeKey = false;
+            return;
+        }
+        final int mask = keys.length - 1;
+        for (int i = slot(key, mask); keys[i] != FREE; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                closeGap(i, mask);
+                size--;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes every entry.
+     */
+    void clear() {
+        Arrays.fill(keys, FREE);
+        size = 0;
+        hasFreeKey = false;
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return number of entries
+     */
+    int size() {
+        int count = size;
+        if (hasFreeKey) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Empties a slot, moving later entries of the same probe run back so every entry stays reachable.
+     *
+     * @param slot slot to empty
+     * @param mask slot mask
+     */
+    private void closeGap(final int slot, final int mask) {
+        int gap = slot;
+        int i = slot;
+        while (true) {
+            i = (i + 1) & mask;
+            final long key = keys[i];
+            if (key == FREE) {
+                keys[gap] = FREE;
+                return;
+            }
+            if (((i - slot(key, mask)) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+    }
+
+    /**
+     * Moves every entry to new arrays.
+     *
+     * @param capacity new number of slots, a power of two
+     */
+    private void resize(final int capacity) {
+        final long[] oldKeys = keys;
+        final long[] oldValues = values;
+        keys = new long[capacity];
+        values = new long[capacity];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    /**
+     * Gets the home slot of a key.
+     *
+     * @param key key
+     * @param mask slot mask
+     * @return slot
+     */
+    private static int slot(final long key, final int mask) {
+        return (int) ((key * HASH_MULTIPLIER) >>> Integer.SIZE) & mask;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.index;
+
+import com.hazelcast.query.extractor.ValueCallback;
+import com.hazelcast.query.extractor.ValueCollector;
+import com.hazelcast.query.extractor.ValueExtractor;
+import com.hazelcast.query.extractor.ValueReader;
+import com.starfireaviation.common.model.ACS;
+import com.starfireaviation.common.model.SubjectMatterCode;
+
+import java.util.Locale;
+
+/**
+ * Extracts the "normalizedCode" attribute (trimmed, upper-cased code) so case-insensitive code lookups can be served
+ * by a map index.
+ */
+public class NormalizedCodeExtractor implements ValueExtractor<Object, Object> {
+
+    /**
+     * Attribute name.
+     */
+    public static final String ATTRIBUTE = "normalizedCode";
+
+    /**
+     * Source field name.
+     */
+    private static final String CODE_FIELD = "code";
+
+    /**
+     * Normalizes a code for indexing and lookup.
+     *
+     * @param code code
+     * @return trimmed, upper-cased code, or null for null
+     */
+    public static String normalize(final String code) {
+        if (code == null) {
+            return null;
+        }
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Extracts the normalized code from an ACS or SubjectMatterCode, or from the reader Hazelcast passes for values
+     * stored in compact format.
+     *
+     * @param target map value
+     * @param argument unused
+     * @param collector ValueCollector, declared raw by ValueExtractor and only ever given strings here
+     */
+    @Override
+    public void extract(final Object target, final Object argument, final ValueCollector collector) {
+        @SuppressWarnings("unchecked")
+        final ValueCollector<String> codes = collector;
+        if (target instanceof ACS) {
+            codes.addObject(normalize(((ACS) target).getCode()));
+        } else if (target instanceof SubjectMatterCode) {
+            codes.addObject(normalize(((SubjectMatterCode) target).getCode()));
+        } else if (target instanceof ValueReader) {
+            final ValueCallback<String> callback = code -> codes.addObject(normalize(code));
+            ((ValueReader) target).read(CODE_FIELD, callback);
+        }
+    }
+}
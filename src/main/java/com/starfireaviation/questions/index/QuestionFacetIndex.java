@@ -0,0 +1,372 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.index;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryLoadedListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+import com.starfireaviation.common.model.Question;
+import com.starfireaviation.common.model.QuestionACS;
+import com.starfireaviation.questions.model.QuestionScopedKey;
+import com.starfireaviation.questions.persistence.StoredEntries;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index of question IDs by chapter, learning statement code and ACS.
+ *
+ * Kept current from entry listeners on the "questions" and "questionacs" maps, so every member answers facet
+ * queries locally with bitmap operations. Evicted entries stay indexed, as they remain in the store and are
+ * loaded back on access.
+ */
+@Slf4j
+@Component
+public class QuestionFacetIndex implements RebuildableIndex {
+
+    /**
+     * HazelcastInstance.
+     */
+    private final HazelcastInstance hazelcast;
+
+    /**
+     * Guards all bitmaps.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * All indexed question IDs.
+     */
+    private final Roaring64Bitmap allQuestions = new Roaring64Bitmap();
+
+    /**
+     * Question IDs by chapter ID.
+     */
+    private final Map<Long, Roaring64Bitmap> byChapter = new HashMap<>();
+
+    /**
+     * Question IDs by learning statement code.
+     */
+    private final Map<String, Roaring64Bitmap> byLearningStatementCode = new HashMap<>();
+
+    /**
+     * Question IDs by ACS ID.
+     */
+    private final Map<Long, Roaring64Bitmap> byAcs = new HashMap<>();
+
+    /**
+     * Question Cache.
+     */
+    private final IMap<Long, Question> questions;
+
+    /**
+     * QuestionACS Cache.
+     */
+    private final IMap<QuestionScopedKey, QuestionACS> questionACS;
+
+    /**
+     * QuestionFacetIndex.
+     *
+     * @param hazelcastInstance HazelcastInstance
+     */
+    public QuestionFacetIndex(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+        hazelcast = hazelcastInstance;
+        questions = hazelcastInstance.getMap("questions");
+        questionACS = hazelcastInstance.getMap("questionacs");
+    }
+
+    /**
+     * Registers entry listeners. The index is filled by rebuild() once the maps are loaded.
+     */
+    @PostConstruct
+    public void init() {
+        questions.addEntryListener(new QuestionListener(), true);
+        questionACS.addEntryListener(new QuestionACSListener(), true);
+    }
+
+    /**
+     * Rebuilds the index from current map contents.
+     */
+    @Override
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            allQuestions.clear();
+            byChapter.clear();
+            byLearningStatementCode.clear();
+            byAcs.clear();
+            StoredEntries.<Question>forEach(hazelcast, questions.getName(), this::addQuestion);
+            StoredEntries.<QuestionACS>forEach(hazelcast, questionACS.getName(), this::addQuestionACS);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed {} questions", all().getLongCardinality());
+    }
+
+    /**
+     * Gets all indexed question IDs.
+     *
+     * @return question IDs
+     */
+    public Roaring64Bitmap all() {
+        lock.readLock().lock();
+        try {
+            return allQuestions.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets question IDs for any of the given chapters.
+     *
+     * @param chapterIds chapter IDs
+     * @return question IDs
+     */
+    public Roaring64Bitmap byChapters(final Collection<Long> chapterIds) {
+        return union(byChapter, chapterIds);
+    }
+
+    /**
+     * Gets question IDs for a learning statement code.
+     *
+     * @param lsc learning statement code
+     * @return question IDs
+     */
+    public Roaring64Bitmap byLearningStatementCode(final String lsc) {
+        lock.readLock().lock();
+        try {
+            final Roaring64Bitmap bitmap = byLearningStatementCode.get(lsc);
+            if (bitmap == null) {
+                return new Roaring64Bitmap();
+            }
+            return bitmap.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets question IDs linked to any of the given ACS entries.
+     *
+     * @param acsIds ACS IDs
+     * @return question IDs
+     */
+    public Roaring64Bitmap byAcs(final Collection<Long> acsIds) {
+        return union(byAcs, acsIds);
+    }
+
+    /**
+     * Combines the bitmaps for the given keys.
+     *
+     * @param facet facet bitmaps
+     * @param keys facet keys
+     * @return union of matching bitmaps
+     */
+    private Roaring64Bitmap union(final Map<Long, Roaring64Bitmap> facet, final Collection<Long> keys) {
+        final Roaring64Bitmap result = new Roaring64Bitmap();
+        lock.readLock().lock();
+        try {
+            for (final Long key : keys) {
+                final Roaring64Bitmap bitmap = facet.get(key);
+                if (bitmap != null) {
+                    result.or(bitmap);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * Adds a question to the index.
+     *
+     * @param question Question
+     */
+    private void addQuestion(final Question question) {
+        if (question == null || question.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            allQuestions.addLong(question.getId());
+            add(byChapter, question.getChapterId(), question.getId());
+            add(byLearningStatementCode, question.getLearningStatementCode(), question.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a question from the index.
+     *
+     * @param question Question
+     */
+    private void removeQuestion(final Question question) {
+        if (question == null || question.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            allQuestions.removeLong(question.getId());
+            remove(byChapter, question.getChapterId(), question.getId());
+            remove(byLearningStatementCode, question.getLearningStatementCode(), question.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a question to ACS link to the index.
+     *
+     * @param link QuestionACS
+     */
+    private void addQuestionACS(final QuestionACS link) {
+        if (link == null || link.getQuestionId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            add(byAcs, link.getAcsId(), link.getQuestionId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a question to ACS link from the index.
+     *
+     * @param link QuestionACS
+     */
+    private void removeQuestionACS(final QuestionACS link) {
+        if (link == null || link.getQuestionId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            remove(byAcs, link.getAcsId(), link.getQuestionId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a question ID under a facet key.
+     *
+     * @param facet facet bitmaps
+     * @param key facet key
+     * @param questionId question ID
+     * @param <K> facet key type
+     */
+    private static <K> void add(final Map<K, Roaring64Bitmap> facet, final K key, final long questionId) {
+        if (key != null) {
+            facet.computeIfAbsent(key, k -> new Roaring64Bitmap()).addLong(questionId);
+        }
+    }
+
+    /**
+     * Removes a question ID from a facet key.
+     *
+     * @param facet facet bitmaps
+     * @param key facet key
+     * @param questionId question ID
+     * @param <K> facet key type
+     */
+    private static <K> void remove(final Map<K, Roaring64Bitmap> facet, final K key, final long questionId) {
+        if (key == null) {
+            return;
+        }
+        final Roaring64Bitmap bitmap = facet.get(key);
+        if (bitmap != null) {
+            bitmap.removeLong(questionId);
+            if (bitmap.isEmpty()) {
+                facet.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Applies "questions" map events to the index.
+     */
+    private class QuestionListener implements EntryAddedListener<Long, Question>,
+            EntryUpdatedListener<Long, Question>, EntryRemovedListener<Long, Question>,
+            EntryLoadedListener<Long, Question> {
+
+        @Override
+        public void entryAdded(final EntryEvent<Long, Question> event) {
+            addQuestion(event.getValue());
+        }
+
+        @Override
+        public void entryUpdated(final EntryEvent<Long, Question> event) {
+            removeQuestion(event.getOldValue());
+            addQuestion(event.getValue());
+        }
+
+        @Override
+        public void entryRemoved(final EntryEvent<Long, Question> event) {
+            removeQuestion(event.getOldValue());
+        }
+
+        @Override
+        public void entryLoaded(final EntryEvent<Long, Question> event) {
+            addQuestion(event.getValue());
+        }
+    }
+
+    /**
+     * Applies "questionacs" map events to the index.
+     */
+    private class QuestionACSListener implements EntryAddedListener<QuestionScopedKey, QuestionACS>,
+            EntryUpdatedListener<QuestionScopedKey, QuestionACS>, EntryRemovedListener<QuestionScopedKey, QuestionACS>,
+            EntryLoadedListener<QuestionScopedKey, QuestionACS> {
+
+        @Override
+        public void entryAdded(final EntryEvent<QuestionScopedKey, QuestionACS> event) {
+            addQuestionACS(event.getValue());
+        }
+
+        @Override
+        public void entryUpdated(final EntryEvent<QuestionScopedKey, QuestionACS> event) {
+            removeQuestionACS(event.getOldValue());
+            addQuestionACS(event.getValue());
+        }
+
+        @Override
+        public void entryRemoved(final EntryEvent<QuestionScopedKey, QuestionACS> event) {
+            removeQuestionACS(event.getOldValue());
+        }
+
+        @Override
+        public void entryLoaded(final EntryEvent<QuestionScopedKey, QuestionACS> event) {
+            addQuestionACS(event.getValue());
+        }
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.index;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+import com.starfireaviation.common.model.Chapter;
+import com.starfireaviation.common.model.Group;
+import com.starfireaviation.questions.persistence.StoredEntries;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Denormalized group to chapter projection, doubling as the per-group chapter listing cache.
+ *
+ * Kept current from entry listeners on the "groups" and "chapters" maps. Chapter to question membership is held by
+ * QuestionFacetIndex, so a group-level question search is two local lookups and a bitmap union.
+ */
+@Slf4j
+@Component
+public class QuestionHierarchy implements RebuildableIndex {
+
+    /**
+     * HazelcastInstance.
+     */
+    private final HazelcastInstance hazelcast;
+
+    /**
+     * Guards all projections.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Group IDs by upper-cased group abbreviation.
+     */
+    private final Map<String, Set<Long>> groupIdsByAbbr = new HashMap<>();
+
+    /**
+     * Chapters by chapter ID, by group ID.
+     */
+    private final Map<Long, Map<Long, Chapter>> chaptersByGroup = new HashMap<>();
+
+    /**
+     * Group Cache.
+     */
+    private final IMap<Long, Group> groups;
+
+    /**
+     * Chapter Cache.
+     */
+    private final IMap<Long, Chapter> chapters;
+
+    /**
+     * QuestionHierarchy.
+     *
+     * @param hazelcastInstance HazelcastInstance
+     */
+    public QuestionHierarchy(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+        hazelcast = hazelcastInstance;
+        groups = hazelcastInstance.getMap("groups");
+        chapters = hazelcastInstance.getMap("chapters");
+    }
+
+    /**
+     * Registers entry listeners. The projection is filled by rebuild() once the maps are loaded.
+     */
+    @PostConstruct
+    public void init() {
+        groups.addEntryListener(new GroupListener(), true);
+        chapters.addEntryListener(new ChapterListener(), true);
+    }
+
+    /**
+     * Rebuilds the projection from current map contents.
+     */
+    @Override
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            groupIdsByAbbr.clear();
+            chaptersByGroup.clear();
+            StoredEntries.<Group>forEach(hazelcast, groups.getName(), this::addGroup);
+            StoredEntries.<Chapter>forEach(hazelcast, chapters.getName(), this::addChapter);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the IDs of chapters belonging to groups with the given abbreviation.
+     *
+     * @param groupAbbr group abbreviation, case-insensitive
+     * @return chapter IDs
+     */
+    public Set<Long> getChapterIds(final String groupAbbr) {
+        final Set<Long> chapterIds = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            for (final Long groupId : groupIdsByAbbr.getOrDefault(normalize(groupAbbr), Set.of())) {
+                chapterIds.addAll(chaptersByGroup.getOrDefault(groupId, Map.of()).keySet());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return chapterIds;
+    }
+
+    /**
+     * Gets the names of chapters belonging to groups with the given abbreviation.
+     *
+     * @param groupAbbr group abbreviation, case-insensitive
+     * @return chapter names, ordered by chapter ID
+     */
+    public List<String> getChapterNames(final String groupAbbr) {
+        final List<String> chapterNames = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (final Long groupId : groupIdsByAbbr.getOrDefault(normalize(groupAbbr), Set.of())) {
+                chaptersByGroup.getOrDefault(groupId, Map.of())
+                        .values()
+                        .forEach(chapter -> chapterNames.add(chapter.getChapterName()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return chapterNames;
+    }
+
+    /**
+     * Gets the chapters of a group.
+     *
+     * Callers get copies, so changing a returned chapter never alters the cached one.
+     *
+     * @param groupId group ID
+     * @return chapters, ordered by chapter ID
+     */
+    public List<Chapter> getChapters(final Long groupId) {
+        lock.readLock().lock();
+        try {
+            final List<Chapter> groupChapters = new ArrayList<>();
+            chaptersByGroup.getOrDefault(groupId, Map.of())
+                    .values()
+                    .forEach(chapter -> groupChapters.add(copy(chapter)));
+            return groupChapters;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copies a chapter.
+     *
+     * @param chapter Chapter
+     * @return copy of the chapter
+     */
+    private static Chapter copy(final Chapter chapter) {
+        final Chapter copy = new Chapter();
+        copy.setChapterId(chapter.getChapterId());
+        copy.setGroupId(chapter.getGroupId());
+        copy.setChapterName(chapter.getChapterName());
+        return copy;
+    }
+
+    /**
+     * Normalizes a group abbreviation for lookup.
+     *
+     * @param groupAbbr group abbreviation
+     * @return upper-cased abbreviation, empty for null
+     */
+    private static String normalize(final String groupAbbr) {
+        if (groupAbbr == null) {
+            return "";
+        }
+        return groupAbbr.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Adds a group to the projection.
+     *
+     * @param group Group
+     */
+    private void addGroup(final Group group) {
+        if (group == null || group.getGroupId() == null || group.getGroupAbbr() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            groupIdsByAbbr.computeIfAbsent(normalize(group.getGroupAbbr()), k -> new HashSet<>())
+                    .add(group.getGroupId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a group from the projection.
+     *
+     * @param group Group
+     */
+    private void removeGroup(final Group group) {
+        if (group == null || group.getGroupId() == null || group.getGroupAbbr() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            final String abbr = normalize(group.getGroupAbbr());
+            final Set<Long> groupIds = groupIdsByAbbr.get(abbr);
+            if (groupIds != null) {
+                groupIds.remove(group.getGroupId());
+                if (groupIds.isEmpty()) {
+                    groupIdsByAbbr.remove(abbr);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a chapter to the projection.
+     *
+     * @param chapter Chapter
+     */
+    private void addChapter(final Chapter chapter) {
+        if (chapter == null || chapter.getChapterId() == null || chapter.getGroupId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            chaptersByGroup.computeIfAbsent(chapter.getGroupId(), k -> new TreeMap<>())
+                    .put(chapter.getChapterId(), chapter);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a chapter from the projection.
+     *
+     * @param chapter Chapter
+     */
+    private void removeChapter(final Chapter chapter) {
+        if (chapter == null || chapter.getChapterId() == null || chapter.getGroupId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            final Map<Long, Chapter> groupChapters = chaptersByGroup.get(chapter.getGroupId());
+            if (groupChapters != null) {
+                groupChapters.remove(chapter.getChapterId());
+                if (groupChapters.isEmpty()) {
+                    chaptersByGroup.remove(chapter.getGroupId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies "groups" map events to the projection.
+     */
+    private class GroupListener implements EntryAddedListener<Long, Group>, EntryUpdatedListener<Long, Group>,
+            EntryRemovedListener<Long, Group> {
+
+        @Override
+        public void entryAdded(final EntryEvent<Long, Group> event) {
+            addGroup(event.getValue());
+        }
+
+        @Override
+        public void entryUpdated(final EntryEvent<Long, Group> event) {
+            removeGroup(event.getOldValue());
+            addGroup(event.getValue());
+        }
+
+        @Override
+        public void entryRemoved(final EntryEvent<Long, Group> event) {
+            removeGroup(event.getOldValue());
+        }
+    }
+
+    /**
+     * Applies "chapters" map events to the projection.
+     */
+    private class ChapterListener implements EntryAddedListener<Long, Chapter>, EntryUpdatedListener<Long, Chapter>,
+            EntryRemovedListener<Long, Chapter> {
+
+        @Override
+        public void entryAdded(final EntryEvent<Long, Chapter> event) {
+            addChapter(event.getValue());
+        }
+
+        @Override
+        public void entryUpdated(final EntryEvent<Long, Chapter> event) {
+            removeChapter(event.getOldValue());
+            addChapter(event.getValue());
+        }
+
+        @Override
+        public void entryRemoved(final EntryEvent<Long, Chapter> event) {
+            removeChapter(event.getOldValue());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.index;
+
+/**
+ * In-memory index that is rebuilt from its source maps once they are loaded, and kept current by entry listeners
+ * afterwards.
+ */
+public interface RebuildableIndex {
+
+    /**
+     * Discards the index contents and rebuilds them from the source maps.
+     */
+    void rebuild();
+
+}
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.model;
+
+import lombok.Data;
+
+/**
+ * Answers given to a set of questions.
+ */
+@Data
+public class AnswerSheet {
+
+    /**
+     * Question IDs.
+     */
+    private long[] questionIds;
+
+    /**
+     * Answer ID given for the question at the same position, 0 when not answered.
+     */
+    private long[] answerIds;
+
+}
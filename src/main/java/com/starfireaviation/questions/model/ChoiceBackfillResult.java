@@ -0,0 +1,47 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.model;
+
+import lombok.Data;
+
+/**
+ * Outcome of an answer choice backfill.
+ */
+@Data
+public class ChoiceBackfillResult {
+
+    /**
+     * Number of answers scanned.
+     */
+    private long scanned;
+
+    /**
+     * Number of answers given a choice.
+     */
+    private long assigned;
+
+    /**
+     * Number of answers left without a choice because every choice was taken or they have no question.
+     */
+    private long skipped;
+
+    /**
+     * Elapsed time, in milliseconds.
+     */
+    private long elapsedMillis;
+
+}
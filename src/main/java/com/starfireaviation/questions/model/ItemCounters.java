@@ -0,0 +1,115 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.model;
+
+/**
+ * Packs the counters of one question of a user into a single long: attempts, correct answers, SM-2 ease factor in
+ * hundredths and consecutive correct answers, 16 bits each. Counters stop at 65535 instead of wrapping.
+ */
+public final class ItemCounters {
+
+    /**
+     * Largest value of a counter.
+     */
+    private static final int MAX = 0xFFFF;
+
+    /**
+     * Position of the attempt count.
+     */
+    private static final int ATTEMPTS = 48;
+
+    /**
+     * Position of the correct answer count.
+     */
+    private static final int CORRECT = 32;
+
+    /**
+     * Position of the ease factor.
+     */
+    private static final int EASE = 16;
+
+    /**
+     * ItemCounters.
+     */
+    private ItemCounters() {
+    }
+
+    /**
+     * Packs counters.
+     *
+     * @param attempts number of answers
+     * @param correct number of correct answers
+     * @param ease ease factor, in hundredths
+     * @param repetitions number of consecutive correct answers
+     * @return packed counters
+     */
+    public static long pack(final int attempts, final int correct, final int ease, final int repetitions) {
+        return (field(attempts) << ATTEMPTS) | (field(correct) << CORRECT) | (field(ease) << EASE)
+                | field(repetitions);
+    }
+
+    /**
+     * Gets the number of answers.
+     *
+     * @param counters packed counters
+     * @return attempts
+     */
+    public static int attempts(final long counters) {
+        return (int) (counters >>> ATTEMPTS) & MAX;
+    }
+
+    /**
+     * Gets the number of correct answers.
+     *
+     * @param counters packed counters
+     * @return correct answers
+     */
+    public static int correct(final long counters) {
+        return (int) (counters >>> CORRECT) & MAX;
+    }
+
+    /**
+     * Gets the ease factor.
+     *
+     * @param counters packed counters
+     * @return ease factor, in hundredths
+     */
+    public static int ease(final long counters) {
+        return (int) (counters >>> EASE) & MAX;
+    }
+
+    /**
+     * Gets the number of consecutive correct answers.
+     *
+     * @param counters packed counters
+     * @return repetitions
+     */
+    public static int repetitions(final long counters) {
+        return (int) counters & MAX;
+    }
+
+    /**
+     * Clamps a counter to its 16 bits.
+     *
+     * @param value counter
+     * @return counter, between 0 and 65535
+     */
+    private static long field(final int value) {
+        return Math.max(0, Math.min(value, MAX));
+    }
+
+}
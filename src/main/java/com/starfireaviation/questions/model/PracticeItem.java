@@ -0,0 +1,57 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.model;
+
+import lombok.Data;
+
+/**
+ * A user's statistics for one question.
+ */
+@Data
+public class PracticeItem {
+
+    /**
+     * Question ID.
+     */
+    private long questionId;
+
+    /**
+     * Number of answers.
+     */
+    private int attempts;
+
+    /**
+     * Number of correct answers.
+     */
+    private int correct;
+
+    /**
+     * SM-2 ease factor.
+     */
+    private double easeFactor;
+
+    /**
+     * Last review, in epoch milliseconds.
+     */
+    private long reviewedAt;
+
+    /**
+     * Next review, in epoch milliseconds.
+     */
+    private long dueAt;
+
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.model;
+
+import com.starfireaviation.common.model.Answer;
+import com.starfireaviation.common.model.Image;
+import com.starfireaviation.common.model.Question;
+import com.starfireaviation.common.model.QuestionReference;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Everything needed to render a single question.
+ */
+@Data
+public class QuestionBundle {
+
+    /**
+     * Question.
+     */
+    private Question question;
+
+    /**
+     * Answers.
+     */
+    private List<Answer> answers;
+
+    /**
+     * Images.
+     */
+    private List<Image> images;
+
+    /**
+     * ACS codes.
+     */
+    private List<String> acsCodes;
+
+    /**
+     * Question references.
+     */
+    private List<QuestionReference> references;
+
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.model;
+
+import com.hazelcast.partition.PartitionAware;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Key of an entry that belongs to a question, such as an answer or an image or ACS link.
+ *
+ * The entry is stored in the partition of its question, so every entry of a question, and the question itself, live
+ * on the same member and a per-question lookup touches a single partition.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionScopedKey implements PartitionAware<Long> {
+
+    /**
+     * Separator between the entry ID and the question ID in the text form.
+     */
+    private static final char SEPARATOR = '@';
+
+    /**
+     * Entry ID.
+     */
+    private Long id;
+
+    /**
+     * Owning question ID.
+     */
+    private Long questionId;
+
+    /**
+     * Routes the entry to the partition of its question.
+     *
+     * @return question ID
+     */
+    @Override
+    public Long getPartitionKey() {
+        return questionId;
+    }
+
+    /**
+     * Parses the text form produced by toString.
+     *
+     * @param text entry ID and question ID, separated by @
+     * @return QuestionScopedKey
+     */
+    public static QuestionScopedKey parse(final String text) {
+        final int separator = text.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Not a question scoped key: " + text);
+        }
+        final QuestionScopedKey key = new QuestionScopedKey();
+        key.setId(Long.valueOf(text.substring(0, separator)));
+        final String questionId = text.substring(separator + 1);
+        if (!"null".equals(questionId)) {
+            key.setQuestionId(Long.valueOf(questionId));
+        }
+        return key;
+    }
+
+    /**
+     * Text form, the entry ID and question ID separated by @.
+     *
+     * @return text form
+     */
+    @Override
+    public String toString() {
+        return id + String.valueOf(SEPARATOR) + questionId;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.model;
+
+import lombok.Data;
+
+/**
+ * Question search criteria.
+ */
+@Data
+public class QuestionSearchCriteria {
+
+    /**
+     * Group abbreviation.
+     */
+    private String groupAbbr;
+
+    /**
+     * Chapter ID.
+     */
+    private Long chapter;
+
+    /**
+     * ACS code.
+     */
+    private String acsCode;
+
+    /**
+     * ACS code prefix, matching the code and every code beneath it.
+     */
+    private String acsPrefix;
+
+    /**
+     * Learning statement code.
+     */
+    private String learningStatementCode;
+
+    /**
+     * Builds search criteria from request parameters.
+     *
+     * @param groupAbbr optional group abbreviation
+     * @param acsCode optional ACS code
+     * @param acsPrefix optional ACS code prefix
+     * @param chapter optional chapter
+     * @param learningStatementCode optional learning statement code
+     * @return QuestionSearchCriteria
+     */
+    public static QuestionSearchCriteria of(final String groupAbbr,
+                                            final String acsCode,
+                                            final String acsPrefix,
+                                            final Long chapter,
+                                            final String learningStatementCode) {
+        final QuestionSearchCriteria criteria = new QuestionSearchCriteria();
+        criteria.setGroupAbbr(groupAbbr);
+        criteria.setAcsCode(acsCode);
+        criteria.setAcsPrefix(acsPrefix);
+        criteria.setChapter(chapter);
+        criteria.setLearningStatementCode(learningStatementCode);
+        return criteria;
+    }
+
+}
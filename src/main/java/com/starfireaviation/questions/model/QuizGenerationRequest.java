@@ -0,0 +1,55 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.model;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request to generate a quiz from the question bank.
+ */
+@Data
+public class QuizGenerationRequest {
+
+    /**
+     * Lesson plan the quiz belongs to.
+     */
+    private Long lessonPlanId;
+
+    /**
+     * Criteria every question must match.
+     */
+    private QuestionSearchCriteria criteria = new QuestionSearchCriteria();
+
+    /**
+     * Total number of questions.
+     */
+    private int count;
+
+    /**
+     * Questions to draw from specific areas; the rest are drawn from everything matching the criteria.
+     */
+    private List<QuizQuota> quotas = new ArrayList<>();
+
+    /**
+     * Random seed, so the same request yields the same quiz. A random seed is used when null.
+     */
+    private Long seed;
+
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.model;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Score of an answer sheet.
+ */
+@Data
+public class QuizGrade {
+
+    /**
+     * Number of questions graded.
+     */
+    private int total;
+
+    /**
+     * Number of questions answered correctly.
+     */
+    private int correct;
+
+    /**
+     * Questions answered incorrectly or not at all.
+     */
+    private List<Long> incorrectQuestionIds = new ArrayList<>();
+
+    /**
+     * Questions left out of the score because no correct answer is known for them.
+     */
+    private List<Long> ungradedQuestionIds = new ArrayList<>();
+
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.model;
+
+import lombok.Data;
+
+/**
+ * One user's attempt at a quiz.
+ */
+@Data
+public class QuizSession {
+
+    /**
+     * Session ID.
+     */
+    private Long id;
+
+    /**
+     * Quiz ID.
+     */
+    private Long quizId;
+
+    /**
+     * ID of the user taking the quiz.
+     */
+    private Long userId;
+
+    /**
+     * Question IDs, in order.
+     */
+    private long[] questionIds;
+
+    /**
+     * Answer ID given for the question at the same position, 0 when not answered yet.
+     */
+    private long[] answerIds;
+
+    /**
+     * Start time, in epoch milliseconds.
+     */
+    private long startedAt;
+
+    /**
+     * Completion time, in epoch milliseconds, null while in progress.
+     */
+    private Long completedAt;
+
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a change to a quiz session.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizSessionUpdate {
+
+    /**
+     * Outcome of a change.
+     */
+    public enum Outcome {
+        /**
+         * The change was applied.
+         */
+        APPLIED,
+        /**
+         * The session does not exist.
+         */
+        NOT_FOUND,
+        /**
+         * The session is completed and no longer changes.
+         */
+        COMPLETED,
+        /**
+         * The question is not part of the session.
+         */
+        UNKNOWN_QUESTION
+    }
+
+    /**
+     * Outcome.
+     */
+    private Outcome outcome;
+
+    /**
+     * Session after the change, null when not found.
+     */
+    private QuizSession session;
+
+}
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of quiz summaries.
+ */
+@Data
+public class QuizSummaryPage {
+
+    /**
+     * Quiz summaries, in ascending ID order.
+     */
+    private List<QuizSummary> quizzes;
+
+    /**
+     * Opaque token for the next page, null on the last page.
+     */
+    private String nextCursor;
+
+}
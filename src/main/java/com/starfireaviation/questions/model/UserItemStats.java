@@ -0,0 +1,55 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.model;
+
+import lombok.Data;
+
+/**
+ * Spaced-repetition statistics of one user, for every question the user has answered.
+ *
+ * Held as parallel primitive arrays sorted by question ID rather than one object per question, so a user costs
+ * 24 bytes per answered question plus the entry overhead. Times are whole minutes since the epoch.
+ */
+@Data
+public class UserItemStats {
+
+    /**
+     * User ID.
+     */
+    private Long id;
+
+    /**
+     * Answered question IDs, ascending.
+     */
+    private long[] questionIds = new long[0];
+
+    /**
+     * Counters of the question at the same position, packed by ItemCounters.
+     */
+    private long[] counters = new long[0];
+
+    /**
+     * Last review of the question at the same position, in minutes since the epoch.
+     */
+    private int[] reviewedAt = new int[0];
+
+    /**
+     * Next review of the question at the same position, in minutes since the epoch.
+     */
+    private int[] dueAt = new int[0];
+
+}
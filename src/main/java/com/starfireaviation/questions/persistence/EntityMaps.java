@@ -0,0 +1,105 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.persistence;
+
+import com.starfireaviation.common.model.ACS;
+import com.starfireaviation.common.model.Answer;
+import com.starfireaviation.common.model.BinaryData;
+import com.starfireaviation.common.model.Chapter;
+import com.starfireaviation.common.model.FigureSection;
+import com.starfireaviation.common.model.Group;
+import com.starfireaviation.common.model.Image;
+import com.starfireaviation.common.model.Library;
+import com.starfireaviation.common.model.Question;
+import com.starfireaviation.common.model.QuestionACS;
+import com.starfireaviation.common.model.QuestionRefImage;
+import com.starfireaviation.common.model.QuestionReference;
+import com.starfireaviation.common.model.QuestionTest;
+import com.starfireaviation.common.model.Quiz;
+import com.starfireaviation.common.model.Ref;
+import com.starfireaviation.common.model.Source;
+import com.starfireaviation.common.model.SubjectMatterCode;
+import com.starfireaviation.common.model.Test;
+import com.starfireaviation.common.model.TextConst;
+import com.starfireaviation.questions.model.CorrectAnswer;
+import com.starfireaviation.questions.model.QuestionScopedKey;
+import com.starfireaviation.questions.model.QuizQuestions;
+import com.starfireaviation.questions.model.QuizSession;
+import com.starfireaviation.questions.model.UserItemStats;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Entity maps and the model type each one stores.
+ */
+public final class EntityMaps {
+
+    /**
+     * Model type by map name.
+     */
+    public static final Map<String, Class<?>> TYPES = Map.ofEntries(
+            Map.entry("acs", ACS.class),
+            Map.entry("answers", Answer.class),
+            Map.entry("binarydata", BinaryData.class),
+            Map.entry("chapters", Chapter.class),
+            Map.entry("correctanswers", CorrectAnswer.class),
+            Map.entry("figuresection", FigureSection.class),
+            Map.entry("groups", Group.class),
+            Map.entry("images", Image.class),
+            Map.entry("library", Library.class),
+            Map.entry("questions", Question.class),
+            Map.entry("questionacs", QuestionACS.class),
+            Map.entry("questionrefimage", QuestionRefImage.class),
+            Map.entry("questionreference", QuestionReference.class),
+            Map.entry("questiontest", QuestionTest.class),
+            Map.entry("quiz", Quiz.class),
+            Map.entry("quizquestions", QuizQuestions.class),
+            Map.entry("quizsessions", QuizSession.class),
+            Map.entry("refs", Ref.class),
+            Map.entry("sources", Source.class),
+            Map.entry("subjectmattercodes", SubjectMatterCode.class),
+            Map.entry("tests", Test.class),
+            Map.entry("textconst", TextConst.class),
+            Map.entry("useritemstats", UserItemStats.class));
+
+    /**
+     * Maps keyed by QuestionScopedKey, so that their entries live in the partition of their question. All other maps
+     * are keyed by Long ID.
+     */
+    public static final Set<String> QUESTION_SCOPED = Set.of("answers", "questionacs", "questionrefimage");
+
+    /**
+     * EntityMaps.
+     */
+    private EntityMaps() {
+    }
+
+    /**
+     * Gets the key type of a map.
+     *
+     * @param mapName map name
+     * @return QuestionScopedKey for question scoped maps, Long otherwise
+     */
+    public static Class<?> keyType(final String mapName) {
+        if (QUESTION_SCOPED.contains(mapName)) {
+            return QuestionScopedKey.class;
+        }
+        return Long.class;
+    }
+
+}
@@ -0,0 +1,247 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hazelcast.map.MapStore;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Stores one map's entries as JSON files, one file per entry, in a local directory.
+ *
+ * Writes go to a temporary file which is then atomically moved into place, so a crash never leaves a partially
+ * written entry behind. Each file is named after the text form of its key.
+ *
+ * @param <K> key type
+ * @param <V> entry type
+ */
+@Slf4j
+public class FileMapStore<K, V> implements MapStore<K, V> {
+
+    /**
+     * Entry file suffix.
+     */
+    private static final String SUFFIX = ".json";
+
+    /**
+     * Directory holding this map's entries.
+     */
+    private final Path directory;
+
+    /**
+     * Entry type.
+     */
+    private final Class<V> type;
+
+    /**
+     * Parses a key from its text form.
+     */
+    private final Function<String, K> keyParser;
+
+    /**
+     * Derives the key of an entry.
+     */
+    private final Function<V, K> keyOf;
+
+    /**
+     * ObjectMapper.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * FileMapStore.
+     *
+     * @param entryDirectory directory holding this map's entries, created when missing
+     * @param entryType entry type
+     * @param parser parses a key from its text form
+     * @param entryKey derives the key of an entry
+     * @param mapper ObjectMapper
+     */
+    public FileMapStore(final Path entryDirectory,
+                        final Class<V> entryType,
+                        final Function<String, K> parser,
+                        final Function<V, K> entryKey,
+                        final ObjectMapper mapper) {
+        directory = entryDirectory;
+        type = entryType;
+        keyParser = parser;
+        keyOf = entryKey;
+        objectMapper = mapper;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes an entry.
+     *
+     * @param key entry key
+     * @param value entry value
+     */
+    @Override
+    public void store(final K key, final V value) {
+        final Path target = file(key);
+        try {
+            final Path temp = Files.createTempFile(directory, key.toString(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), value);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("Unable to store {}", target, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a batch of entries.
+     *
+     * @param entries entries by key
+     */
+    @Override
+    public void storeAll(final Map<K, V> entries) {
+        entries.forEach(this::store);
+    }
+
+    /**
+     * Deletes an entry.
+     *
+     * @param key entry key
+     */
+    @Override
+    public void delete(final K key) {
+        try {
+            Files.deleteIfExists(file(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deletes a batch of entries.
+     *
+     * @param keys entry keys
+     */
+    @Override
+    public void deleteAll(final Collection<K> keys) {
+        keys.forEach(this::delete);
+    }
+
+    /**
+     * Reads an entry.
+     *
+     * @param key entry key
+     * @return entry value, null when not stored
+     */
+    @Override
+    public V load(final K key) {
+        final Path source = file(key);
+        if (!Files.exists(source)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(source.toFile(), type);
+        } catch (IOException e) {
+            log.error("Unable to load {}", source, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads a batch of entries.
+     *
+     * @param keys entry keys
+     * @return stored entries by key
+     */
+    @Override
+    public Map<K, V> loadAll(final Collection<K> keys) {
+        final Map<K, V> entries = new HashMap<>();
+        for (final K key : keys) {
+            final V value = load(key);
+            if (value != null) {
+                entries.put(key, value);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Lists the keys of all stored entries.
+     *
+     * @return entry keys
+     */
+    @Override
+    public Iterable<K> loadAllKeys() {
+        try (Stream<Path> files = Files.list(directory)) {
+            final List<K> keys = files
+                    .map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SUFFIX))
+                    .map(name -> key(name.substring(0, name.length() - SUFFIX.length())))
+                    .collect(Collectors.toList());
+            log.info("Found {} stored entries in {}", keys.size(), directory);
+            return keys;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses the key of a stored entry from its file name. A file named in an older key format is renamed after the
+     * key derived from its entry.
+     *
+     * @param name file name without suffix
+     * @return entry key
+     */
+    private K key(final String name) {
+        try {
+            return keyParser.apply(name);
+        } catch (IllegalArgumentException e) {
+            final Path source = directory.resolve(name + SUFFIX);
+            try {
+                final K key = keyOf.apply(objectMapper.readValue(source.toFile(), type));
+                Files.move(source, file(key), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                log.debug("Renamed {} to the key format of {}", source, key);
+                return key;
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }
+    }
+
+    /**
+     * Gets the file holding an entry.
+     *
+     * @param key entry key
+     * @return Path
+     */
+    private Path file(final K key) {
+        return directory.resolve(key + SUFFIX);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.persistence;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hazelcast.map.MapLoader;
+import com.hazelcast.map.MapStoreFactory;
+import com.starfireaviation.questions.model.QuestionScopedKey;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Creates a FileMapStore for each entity map, in a subdirectory named after the map.
+ */
+public class FileMapStoreFactory implements MapStoreFactory<Object, Object> {
+
+    /**
+     * Root data directory.
+     */
+    private final Path dataDir;
+
+    /**
+     * ObjectMapper shared by all stores.
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /**
+     * FileMapStoreFactory.
+     *
+     * @param root root data directory
+     */
+    public FileMapStoreFactory(final Path root) {
+        dataDir = root;
+    }
+
+    /**
+     * Creates the store for a map.
+     *
+     * @param mapName map name
+     * @param properties unused
+     * @return FileMapStore
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public MapLoader<Object, Object> newMapStore(final String mapName, final Properties properties) {
+        final Class<Object> type = (Class<Object>) EntityMaps.TYPES.get(mapName);
+        if (type == null) {
+            throw new IllegalArgumentException("No entity type registered for map " + mapName);
+        }
+        if (EntityMaps.QUESTION_SCOPED.contains(mapName)) {
+            return new FileMapStore<Object, Object>(dataDir.resolve(mapName), type, QuestionScopedKey::parse,
+                    entry -> new QuestionScopedKey(id(entry, "id"), id(entry, "questionId")), objectMapper);
+        }
+        return new FileMapStore<Object, Object>(dataDir.resolve(mapName), type, Long::valueOf,
+                entry -> id(entry, "id"), objectMapper);
+    }
+
+    /**
+     * Reads an ID property of an entry.
+     *
+     * @param entry entry
+     * @param property property name
+     * @return ID
+     */
+    private static Long id(final Object entry, final String property) {
+        return (Long) new BeanWrapperImpl(entry).getPropertyValue(property);
+    }
+}
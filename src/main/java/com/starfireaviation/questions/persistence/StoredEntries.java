@@ -0,0 +1,113 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.persistence;
+
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.MapLoader;
+import com.hazelcast.map.MapStoreFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Visits every entry of a map, including entries a size-bounded map has evicted to its store.
+ */
+public final class StoredEntries {
+
+    /**
+     * Entries read from the store at a time.
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * StoredEntries.
+     */
+    private StoredEntries() {
+    }
+
+    /**
+     * Applies an action to every value of a map.
+     *
+     * Maps without eviction hold every entry in memory and are read directly. Size-bounded maps backed by a
+     * MapStoreFactory are read from the store through the map's own loader, then from memory so changes not yet
+     * written behind are seen too; a value may therefore be visited twice.
+     *
+     * @param hazelcastInstance HazelcastInstance
+     * @param mapName map name
+     * @param action action
+     * @param <V> value type
+     */
+    public static <V> void forEach(final HazelcastInstance hazelcastInstance,
+                                   final String mapName,
+                                   final Consumer<V> action) {
+        final MapConfig mapConfig = hazelcastInstance.getConfig().getMapConfig(mapName);
+        final MapLoader<Object, V> loader = loader(mapConfig);
+        if (loader != null && mapConfig.getEvictionConfig().getEvictionPolicy() != EvictionPolicy.NONE) {
+            final List<Object> batch = new ArrayList<>(BATCH_SIZE);
+            for (final Object key : loader.loadAllKeys()) {
+                batch.add(key);
+                if (batch.size() == BATCH_SIZE) {
+                    loader.loadAll(batch).values().forEach(action);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                loader.loadAll(batch).values().forEach(action);
+            }
+        }
+        hazelcastInstance.<Object, V>getMap(mapName).values().forEach(action);
+    }
+
+    /**
+     * Applies an action to every key of a map: the keys in its store, whether loaded yet or not, then the keys in
+     * memory. A key may therefore be visited twice.
+     *
+     * @param hazelcastInstance HazelcastInstance
+     * @param mapName map name
+     * @param action action
+     */
+    public static void forEachKey(final HazelcastInstance hazelcastInstance,
+                                  final String mapName,
+                                  final Consumer<Object> action) {
+        final MapLoader<Object, Object> loader = loader(hazelcastInstance.getConfig().getMapConfig(mapName));
+        if (loader != null) {
+            loader.loadAllKeys().forEach(action);
+        }
+        hazelcastInstance.getMap(mapName).keySet().forEach(action);
+    }
+
+    /**
+     * Opens the store of a map.
+     *
+     * @param mapConfig MapConfig
+     * @param <V> value type
+     * @return the map's loader, null unless the map is backed by a MapStoreFactory
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> MapLoader<Object, V> loader(final MapConfig mapConfig) {
+        final MapStoreConfig mapStoreConfig = mapConfig.getMapStoreConfig();
+        if (!mapStoreConfig.isEnabled() || !(mapStoreConfig.getFactoryImplementation() instanceof MapStoreFactory)) {
+            return null;
+        }
+        return ((MapStoreFactory<Object, V>) mapStoreConfig.getFactoryImplementation())
+                .newMapStore(mapConfig.getName(), mapStoreConfig.getProperties());
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.processor;
+
+import com.starfireaviation.questions.model.QuizSession;
+import com.starfireaviation.questions.model.QuizSessionUpdate.Outcome;
+
+import java.util.Arrays;
+
+/**
+ * Appends a question to a quiz session, unless it is already part of it.
+ */
+public class AddSessionQuestionProcessor extends QuizSessionProcessor {
+
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Question ID.
+     */
+    private final long questionId;
+
+    /**
+     * AddSessionQuestionProcessor.
+     *
+     * @param question question ID
+     */
+    public AddSessionQuestionProcessor(final long question) {
+        questionId = question;
+    }
+
+    /**
+     * Appends the question, unanswered.
+     *
+     * @param session QuizSession
+     * @return APPLIED, also when the question was already part of the session
+     */
+    @Override
+    protected Outcome apply(final QuizSession session) {
+        if (indexOf(session, questionId) >= 0) {
+            return Outcome.APPLIED;
+        }
+        final int length = session.getQuestionIds().length;
+        session.setQuestionIds(Arrays.copyOf(session.getQuestionIds(), length + 1));
+        session.getQuestionIds()[length] = questionId;
+        session.setAnswerIds(Arrays.copyOf(session.getAnswerIds(), length + 1));
+        return Outcome.APPLIED;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.processor;
+
+import com.hazelcast.map.EntryProcessor;
+import com.starfireaviation.common.model.Answer;
+import com.starfireaviation.questions.model.QuestionScopedKey;
+
+import java.util.Map;
+
+/**
+ * Sets the choice of answers that do not have one yet, in place on the owning partition.
+ */
+public class AssignAnswerChoiceProcessor implements EntryProcessor<QuestionScopedKey, Answer, Boolean> {
+
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Choices to assign, by answer key.
+     */
+    private final Map<QuestionScopedKey, String> choices;
+
+    /**
+     * AssignAnswerChoiceProcessor.
+     *
+     * @param assignments choices to assign, by answer key
+     */
+    public AssignAnswerChoiceProcessor(final Map<QuestionScopedKey, String> assignments) {
+        choices = assignments;
+    }
+
+    /**
+     * Assigns the choice unless the answer is gone or was given a choice in the meantime.
+     *
+     * @param entry answer entry
+     * @return true when the answer was updated
+     */
+    @Override
+    public Boolean process(final Map.Entry<QuestionScopedKey, Answer> entry) {
+        final Answer answer = entry.getValue();
+        final String choice = choices.get(entry.getKey());
+        if (answer == null || answer.getChoice() != null || choice == null) {
+            return Boolean.FALSE;
+        }
+        answer.setChoice(choice);
+        entry.setValue(answer);
+        return Boolean.TRUE;
+    }
+}
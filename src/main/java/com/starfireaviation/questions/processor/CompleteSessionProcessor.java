@@ -0,0 +1,57 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.processor;
+
+import com.starfireaviation.questions.model.QuizSession;
+import com.starfireaviation.questions.model.QuizSessionUpdate.Outcome;
+
+/**
+ * Marks a quiz session as completed, after which it no longer changes.
+ */
+public class CompleteSessionProcessor extends QuizSessionProcessor {
+
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Completion time, in epoch milliseconds. Taken by the caller so backups record the same time.
+     */
+    private final long completedAt;
+
+    /**
+     * CompleteSessionProcessor.
+     *
+     * @param time completion time, in epoch milliseconds
+     */
+    public CompleteSessionProcessor(final long time) {
+        completedAt = time;
+    }
+
+    /**
+     * Records the completion time.
+     *
+     * @param session QuizSession
+     * @return APPLIED
+     */
+    @Override
+    protected Outcome apply(final QuizSession session) {
+        session.setCompletedAt(completedAt);
+        return Outcome.APPLIED;
+    }
+}
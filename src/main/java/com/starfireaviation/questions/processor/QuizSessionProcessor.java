@@ -0,0 +1,83 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.processor;
+
+import com.hazelcast.map.EntryProcessor;
+import com.starfireaviation.questions.model.QuizSession;
+import com.starfireaviation.questions.model.QuizSessionUpdate;
+import com.starfireaviation.questions.model.QuizSessionUpdate.Outcome;
+
+import java.util.Map;
+
+/**
+ * Changes a quiz session in place on the partition that owns it, so concurrent sessions never contend with each
+ * other and changes to one session are applied one at a time without locking.
+ */
+public abstract class QuizSessionProcessor implements EntryProcessor<Long, QuizSession, QuizSessionUpdate> {
+
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Applies the change to an in-progress session. Rejected changes leave the session as it was.
+     *
+     * @param entry session entry
+     * @return QuizSessionUpdate
+     */
+    @Override
+    public QuizSessionUpdate process(final Map.Entry<Long, QuizSession> entry) {
+        final QuizSession session = entry.getValue();
+        if (session == null) {
+            return new QuizSessionUpdate(Outcome.NOT_FOUND, null);
+        }
+        if (session.getCompletedAt() != null) {
+            return new QuizSessionUpdate(Outcome.COMPLETED, session);
+        }
+        final Outcome outcome = apply(session);
+        if (outcome == Outcome.APPLIED) {
+            entry.setValue(session);
+        }
+        return new QuizSessionUpdate(outcome, session);
+    }
+
+    /**
+     * Changes a session.
+     *
+     * @param session QuizSession
+     * @return APPLIED, or why the change was rejected
+     */
+    protected abstract Outcome apply(QuizSession session);
+
+    /**
+     * Finds the position of a question in a session.
+     *
+     * @param session QuizSession
+     * @param questionId question ID
+     * @return position, -1 when the question is not part of the session
+     */
+    protected static int indexOf(final QuizSession session, final long questionId) {
+        final long[] questionIds = session.getQuestionIds();
+        for (int i = 0; i < questionIds.length; i++) {
+            if (questionIds[i] == questionId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
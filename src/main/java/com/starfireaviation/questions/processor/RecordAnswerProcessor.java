@@ -0,0 +1,68 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.processor;
+
+import com.starfireaviation.questions.model.QuizSession;
+import com.starfireaviation.questions.model.QuizSessionUpdate.Outcome;
+
+/**
+ * Records the answer given to a question of a quiz session, replacing any earlier answer.
+ */
+public class RecordAnswerProcessor extends QuizSessionProcessor {
+
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Question ID.
+     */
+    private final long questionId;
+
+    /**
+     * Answer ID.
+     */
+    private final long answerId;
+
+    /**
+     * RecordAnswerProcessor.
+     *
+     * @param question question ID
+     * @param answer answer ID
+     */
+    public RecordAnswerProcessor(final long question, final long answer) {
+        questionId = question;
+        answerId = answer;
+    }
+
+    /**
+     * Records the answer.
+     *
+     * @param session QuizSession
+     * @return APPLIED, UNKNOWN_QUESTION when the question is not part of the session
+     */
+    @Override
+    protected Outcome apply(final QuizSession session) {
+        final int index = indexOf(session, questionId);
+        if (index < 0) {
+            return Outcome.UNKNOWN_QUESTION;
+        }
+        session.getAnswerIds()[index] = answerId;
+        return Outcome.APPLIED;
+    }
+}
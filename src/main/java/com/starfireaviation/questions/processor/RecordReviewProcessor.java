@@ -0,0 +1,241 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.processor;
+
+import com.hazelcast.map.EntryProcessor;
+import com.starfireaviation.questions.model.ItemCounters;
+import com.starfireaviation.questions.model.PracticeItem;
+import com.starfireaviation.questions.model.UserItemStats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records answers in a user's statistics and schedules each question's next review with SM-2.
+ *
+ * A correct answer grows the interval (one day, six days, then the previous interval times the ease factor) and
+ * raises the ease factor; a wrong answer lowers the ease factor and brings the question back after the relearn
+ * interval. The review time is passed in, so the backup replica applies the exact same change.
+ */
+public class RecordReviewProcessor implements EntryProcessor<Long, UserItemStats, List<PracticeItem>> {
+
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Ease factor of a question never answered, in hundredths.
+     */
+    private static final int INITIAL_EASE = 250;
+
+    /**
+     * Lowest ease factor, in hundredths.
+     */
+    private static final int MIN_EASE = 130;
+
+    /**
+     * Ease factor change for a correct answer (SM-2 quality 5), in hundredths.
+     */
+    private static final int CORRECT_EASE_CHANGE = 10;
+
+    /**
+     * Ease factor change for a wrong answer (SM-2 quality 2), in hundredths.
+     */
+    private static final int INCORRECT_EASE_CHANGE = -32;
+
+    /**
+     * Ease factor scale.
+     */
+    private static final double HUNDRED = 100d;
+
+    /**
+     * Interval after the first correct answer, in minutes.
+     */
+    private static final long FIRST_INTERVAL = TimeUnit.DAYS.toMinutes(1);
+
+    /**
+     * Interval after the second correct answer in a row, in minutes.
+     */
+    private static final long SECOND_INTERVAL = TimeUnit.DAYS.toMinutes(6);
+
+    /**
+     * Longest interval, in minutes.
+     */
+    private static final long MAX_INTERVAL = TimeUnit.DAYS.toMinutes(365);
+
+    /**
+     * Question IDs.
+     */
+    private final long[] questionIds;
+
+    /**
+     * Whether the answer to the question at the same position was correct.
+     */
+    private final boolean[] correct;
+
+    /**
+     * Review time, in minutes since the epoch.
+     */
+    private final int now;
+
+    /**
+     * Interval after a wrong answer, in minutes.
+     */
+    private final int relearnInterval;
+
+    /**
+     * RecordReviewProcessor.
+     *
+     * @param questions question IDs
+     * @param answeredCorrectly whether the answer to the question at the same position was correct
+     * @param reviewedAt review time, in minutes since the epoch
+     * @param relearnMinutes interval after a wrong answer, in minutes
+     */
+    public RecordReviewProcessor(final long[] questions, final boolean[] answeredCorrectly, final int reviewedAt,
+                                 final int relearnMinutes) {
+        questionIds = questions;
+        correct = answeredCorrectly;
+        now = reviewedAt;
+        relearnInterval = relearnMinutes;
+    }
+
+    /**
+     * Records the answers.
+     *
+     * @param entry user statistics entry, created on the user's first answer
+     * @return the updated statistics of each question, in the order given
+     */
+    @Override
+    public List<PracticeItem> process(final Map.Entry<Long, UserItemStats> entry) {
+        UserItemStats stats = entry.getValue();
+        if (stats == null) {
+            stats = new UserItemStats();
+            stats.setId(entry.getKey());
+        }
+        final List<PracticeItem> items = new ArrayList<>(questionIds.length);
+        for (int i = 0; i < questionIds.length; i++) {
+            items.add(record(stats, questionIds[i], correct[i]));
+        }
+        entry.setValue(stats);
+        return items;
+    }
+
+    /**
+     * Records one answer.
+     *
+     * @param stats UserItemStats
+     * @param questionId question ID
+     * @param answeredCorrectly whether the answer was correct
+     * @return the question's updated statistics
+     */
+    private PracticeItem record(final UserItemStats stats, final long questionId, final boolean answeredCorrectly) {
+        int index = Arrays.binarySearch(stats.getQuestionIds(), questionId);
+        if (index < 0) {
+            index = -index - 1;
+            insert(stats, index, questionId);
+        }
+        final long counters = stats.getCounters()[index];
+        int correctAnswers = ItemCounters.correct(counters);
+        int ease = ItemCounters.ease(counters);
+        int repetitions = ItemCounters.repetitions(counters);
+        final long interval;
+        if (answeredCorrectly) {
+            correctAnswers++;
+            repetitions++;
+            interval = nextInterval(repetitions, stats.getDueAt()[index] - stats.getReviewedAt()[index], ease);
+            ease += CORRECT_EASE_CHANGE;
+        } else {
+            repetitions = 0;
+            interval = relearnInterval;
+            ease = Math.max(MIN_EASE, ease + INCORRECT_EASE_CHANGE);
+        }
+        stats.getCounters()[index] = ItemCounters.pack(ItemCounters.attempts(counters) + 1, correctAnswers, ease,
+                repetitions);
+        stats.getReviewedAt()[index] = now;
+        stats.getDueAt()[index] = (int) (now + interval);
+        return item(stats, index);
+    }
+
+    /**
+     * Computes the interval after a correct answer.
+     *
+     * @param repetitions consecutive correct answers, including this one
+     * @param previous previous interval, in minutes
+     * @param ease ease factor, in hundredths
+     * @return interval, in minutes
+     */
+    private static long nextInterval(final int repetitions, final long previous, final int ease) {
+        if (repetitions == 1) {
+            return FIRST_INTERVAL;
+        } else if (repetitions == 2) {
+            return SECOND_INTERVAL;
+        }
+        return Math.min(MAX_INTERVAL, Math.round(Math.max(previous, FIRST_INTERVAL) * ease / HUNDRED));
+    }
+
+    /**
+     * Makes room for a question never answered before.
+     *
+     * @param stats UserItemStats
+     * @param index position keeping question IDs ascending
+     * @param questionId question ID
+     */
+    private static void insert(final UserItemStats stats, final int index, final long questionId) {
+        final int length = stats.getQuestionIds().length;
+        final long[] questionIds = new long[length + 1];
+        final long[] counters = new long[length + 1];
+        final int[] reviewedAt = new int[length + 1];
+        final int[] dueAt = new int[length + 1];
+        System.arraycopy(stats.getQuestionIds(), 0, questionIds, 0, index);
+        System.arraycopy(stats.getCounters(), 0, counters, 0, index);
+        System.arraycopy(stats.getReviewedAt(), 0, reviewedAt, 0, index);
+        System.arraycopy(stats.getDueAt(), 0, dueAt, 0, index);
+        System.arraycopy(stats.getQuestionIds(), index, questionIds, index + 1, length - index);
+        System.arraycopy(stats.getCounters(), index, counters, index + 1, length - index);
+        System.arraycopy(stats.getReviewedAt(), index, reviewedAt, index + 1, length - index);
+        System.arraycopy(stats.getDueAt(), index, dueAt, index + 1, length - index);
+        questionIds[index] = questionId;
+        counters[index] = ItemCounters.pack(0, 0, INITIAL_EASE, 0);
+        stats.setQuestionIds(questionIds);
+        stats.setCounters(counters);
+        stats.setReviewedAt(reviewedAt);
+        stats.setDueAt(dueAt);
+    }
+
+    /**
+     * Unpacks the statistics of one question.
+     *
+     * @param stats UserItemStats
+     * @param index position of the question
+     * @return PracticeItem
+     */
+    private static PracticeItem item(final UserItemStats stats, final int index) {
+        final long counters = stats.getCounters()[index];
+        final PracticeItem item = new PracticeItem();
+        item.setQuestionId(stats.getQuestionIds()[index]);
+        item.setAttempts(ItemCounters.attempts(counters));
+        item.setCorrect(ItemCounters.correct(counters));
+        item.setEaseFactor(ItemCounters.ease(counters) / HUNDRED);
+        item.setReviewedAt(TimeUnit.MINUTES.toMillis(stats.getReviewedAt()[index]));
+        item.setDueAt(TimeUnit.MINUTES.toMillis(stats.getDueAt()[index]));
+        return item;
+    }
+}
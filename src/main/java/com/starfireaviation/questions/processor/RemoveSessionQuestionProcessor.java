@@ -0,0 +1,75 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.processor;
+
+import com.starfireaviation.questions.model.QuizSession;
+import com.starfireaviation.questions.model.QuizSessionUpdate.Outcome;
+
+/**
+ * Removes a question, and any answer given to it, from a quiz session.
+ */
+public class RemoveSessionQuestionProcessor extends QuizSessionProcessor {
+
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Question ID.
+     */
+    private final long questionId;
+
+    /**
+     * RemoveSessionQuestionProcessor.
+     *
+     * @param question question ID
+     */
+    public RemoveSessionQuestionProcessor(final long question) {
+        questionId = question;
+    }
+
+    /**
+     * Removes the question, keeping the order of the others.
+     *
+     * @param session QuizSession
+     * @return APPLIED, also when the question was not part of the session
+     */
+    @Override
+    protected Outcome apply(final QuizSession session) {
+        final int index = indexOf(session, questionId);
+        if (index >= 0) {
+            session.setQuestionIds(without(session.getQuestionIds(), index));
+            session.setAnswerIds(without(session.getAnswerIds(), index));
+        }
+        return Outcome.APPLIED;
+    }
+
+    /**
+     * Copies an array without one position.
+     *
+     * @param values array
+     * @param index position to drop
+     * @return copy
+     */
+    private static long[] without(final long[] values, final int index) {
+        final long[] copy = new long[values.length - 1];
+        System.arraycopy(values, 0, copy, 0, index);
+        System.arraycopy(values, index + 1, copy, index, copy.length - index);
+        return copy;
+    }
+}
@@ -18,13 +18,17 @@ package com.starfireaviation.questions.service;
 
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
 import com.starfireaviation.common.model.ACS;
+import com.starfireaviation.questions.index.NormalizedCodeExtractor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -37,13 +41,21 @@ public class ACSService {
      */
     private final IMap<Long, ACS> cache;
 
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
+
     /**
      * ACSService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
      */
-    public ACSService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+    public ACSService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                      final IdAllocatorFactory idAllocatorFactory) {
         cache = hazelcastInstance.getMap("acs");
+        idAllocator = idAllocatorFactory.forMap(cache);
     }
 
     /**
@@ -70,11 +82,8 @@ public class ACSService {
         if (code == null) {
             return new ArrayList<>();
         }
-        return cache
-                .values()
-                .stream()
-                .filter(acs -> code.equalsIgnoreCase(acs.getCode()))
-                .collect(Collectors.toList());
+        return new ArrayList<>(cache.values(
+                Predicates.equal(NormalizedCodeExtractor.ATTRIBUTE, NormalizedCodeExtractor.normalize(code))));
     }
 
     /**
@@ -87,6 +96,16 @@ public class ACSService {
         return cache.get(id);
     }
 
+    /**
+     * Gets ACS entries by ID in a single batch.
+     *
+     * @param ids ACS IDs
+     * @return ACS by ID, omitting IDs that were not found
+     */
+    public Map<Long, ACS> getAll(final Collection<Long> ids) {
+        return cache.getAll(ids.stream().filter(Objects::nonNull).collect(Collectors.toSet()));
+    }
+
     /**
      * Saves an ACS.
      *
@@ -97,23 +116,8 @@ public class ACSService {
         if (acs == null) {
             return null;
         } else if (acs.getId() == null) {
-            acs.setId(assignId());
+            acs.setId(idAllocator.nextId());
         }
         return cache.put(acs.getId(), acs);
     }
-
-    /**
-     * Finds an ID to assign to an entity.
-     *
-     * @return next ID value
-     */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
-            }
-        }
-        return max + 1;
-    }
 }
@@ -18,15 +18,28 @@ package com.starfireaviation.questions.service;
 
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
+import com.hazelcast.partition.PartitionService;
+import com.hazelcast.projection.Projections;
 import com.starfireaviation.common.model.Answer;
+import com.starfireaviation.questions.model.ChoiceBackfillResult;
+import com.starfireaviation.questions.model.CorrectAnswer;
+import com.starfireaviation.questions.processor.AssignAnswerChoiceProcessor;
+import com.starfireaviation.questions.model.QuestionScopedKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -41,18 +54,43 @@ public class AnswerService {
      */
     public static final String ANSWER_CHOICES = "A,B,C,D,E,F,G,H";
 
+    /**
+     * Number of partitions completed between backfill progress log lines.
+     */
+    private static final int PROGRESS_INTERVAL = 50;
+
     /**
      * Answer Cache.
      */
-    private final IMap<Long, Answer> cache;
+    private final IMap<QuestionScopedKey, Answer> cache;
+
+    /**
+     * CorrectAnswer Cache, keyed by question ID.
+     */
+    private final IMap<Long, CorrectAnswer> correctAnswers;
+
+    /**
+     * PartitionService.
+     */
+    private final PartitionService partitionService;
+
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
 
     /**
      * AnswerService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
      */
-    public AnswerService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+    public AnswerService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                         final IdAllocatorFactory idAllocatorFactory) {
         cache = hazelcastInstance.getMap("answers");
+        correctAnswers = hazelcastInstance.getMap("correctanswers");
+        partitionService = hazelcastInstance.getPartitionService();
+        idAllocator = idAllocatorFactory.forScopedMap(cache);
     }
 
     /**
@@ -62,7 +100,18 @@ public class AnswerService {
      * @return Answer
      */
     public Answer get(final long id) {
-        return cache.get(id);
+        return get(id, null);
+    }
+
+    /**
+     * Gets an answer.
+     *
+     * @param id Long
+     * @param questionId question ID, which saves looking up the key when given
+     * @return Answer
+     */
+    public Answer get(final long id, final Long questionId) {
+        return QuestionScopedMaps.get(cache, id, questionId);
     }
 
     /**
@@ -81,11 +130,7 @@ public class AnswerService {
      * @return list of Answer
      */
     public List<Answer> findByQuestionId(final Long questionId) {
-        return cache
-                .values()
-                .stream()
-                .filter(answer -> Objects.equals(questionId, answer.getQuestionId()))
-                .collect(Collectors.toList());
+        return QuestionScopedMaps.findByQuestionId(cache, questionId);
     }
 
     /**
@@ -117,23 +162,120 @@ public class AnswerService {
         if (answer == null) {
             return null;
         } else if (answer.getId() == null) {
-            answer.setId(assignId());
+            answer.setId(idAllocator.nextId());
+        } else {
+            final Long previousQuestionId = QuestionScopedMaps.removeMoved(cache, key(answer));
+            if (previousQuestionId != null) {
+                correctAnswers.remove(previousQuestionId, correctAnswer(previousQuestionId, answer.getId()));
+            }
+        }
+        return cache.put(key(answer), answer);
+    }
+
+    /**
+     * Marks an answer as the correct answer to its question, replacing any other.
+     *
+     * @param questionId question ID
+     * @param answerId answer ID
+     * @return CorrectAnswer
+     */
+    public CorrectAnswer markCorrect(final long questionId, final long answerId) {
+        if (get(answerId, questionId) == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    "Answer " + answerId + " to question " + questionId + " was not found");
         }
-        return cache.put(answer.getId(), answer);
+        final CorrectAnswer correctAnswer = correctAnswer(questionId, answerId);
+        correctAnswers.set(questionId, correctAnswer);
+        return correctAnswer;
     }
 
     /**
-     * Finds an ID to assign to an entity.
+     * Gives every answer without a choice the first choice not yet used by another answer to the same question,
+     * in answer ID order. Answers without a question are skipped.
+     *
+     * Only the key, question ID and choice of each answer are read. Choices are worked out per question in one pass,
+     * then written in place by one entry processor call per partition; the answers of a question share a partition.
      *
-     * @return next ID value
+     * @return ChoiceBackfillResult
      */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
+    public ChoiceBackfillResult backfillChoices() {
+        final long start = System.currentTimeMillis();
+        final Collection<Object[]> rows = cache.project(Projections.multiAttribute("__key", "questionId", "choice"));
+        final Map<QuestionScopedKey, String> assignments = new HashMap<>();
+        long skipped = rows.stream().filter(row -> row[1] == null && row[2] == null).count();
+        final Map<Long, List<Object[]>> byQuestion = rows
+                .stream()
+                .filter(row -> row[1] != null)
+                .collect(Collectors.groupingBy(row -> (Long) row[1], HashMap::new, Collectors.toList()));
+        for (final List<Object[]> answers : byQuestion.values()) {
+            final List<String> free = new ArrayList<>(Arrays.asList(ANSWER_CHOICES.split(",")));
+            answers.stream().map(row -> (String) row[2]).filter(Objects::nonNull).forEach(free::remove);
+            final List<QuestionScopedKey> unassigned = answers
+                    .stream()
+                    .filter(row -> row[2] == null)
+                    .map(row -> (QuestionScopedKey) row[0])
+                    .sorted(Comparator.comparing(QuestionScopedKey::getId))
+                    .collect(Collectors.toList());
+            for (final QuestionScopedKey key : unassigned) {
+                if (free.isEmpty()) {
+                    skipped++;
+                } else {
+                    assignments.put(key, free.remove(0));
+                }
+            }
+        }
+
+        final Map<Integer, Map<QuestionScopedKey, String>> byPartition = new HashMap<>();
+        assignments.forEach((key, choice) -> byPartition
+                .computeIfAbsent(partitionService.getPartition(key).getPartitionId(), partitionId -> new HashMap<>())
+                .put(key, choice));
+        final List<CompletableFuture<Map<QuestionScopedKey, Boolean>>> futures = byPartition
+                .values()
+                .stream()
+                .map(batch -> cache
+                        .submitToKeys(batch.keySet(), new AssignAnswerChoiceProcessor(batch))
+                        .toCompletableFuture())
+                .collect(Collectors.toList());
+        long assigned = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            assigned += futures.get(i).join().values().stream().filter(Boolean::booleanValue).count();
+            if ((i + 1) % PROGRESS_INTERVAL == 0) {
+                log.info("Answer choice backfill: {} of {} partitions done, {} answers assigned",
+                        i + 1, futures.size(), assigned);
             }
         }
-        return max + 1;
+
+        final ChoiceBackfillResult result = new ChoiceBackfillResult();
+        result.setScanned(rows.size());
+        result.setAssigned(assigned);
+        result.setSkipped(skipped);
+        result.setElapsedMillis(System.currentTimeMillis() - start);
+        log.info("Answer choice backfill: scanned {}, assigned {}, skipped {} in {}ms",
+                result.getScanned(), result.getAssigned(), result.getSkipped(), result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * Gets the key of a Answer.
+     *
+     * @param answer Answer
+     * @return QuestionScopedKey
+     */
+    private static QuestionScopedKey key(final Answer answer) {
+        return new QuestionScopedKey(answer.getId(), answer.getQuestionId());
+    }
+
+    /**
+     * Builds a CorrectAnswer.
+     *
+     * @param questionId question ID
+     * @param answerId answer ID
+     * @return CorrectAnswer
+     */
+    private static CorrectAnswer correctAnswer(final Long questionId, final Long answerId) {
+        final CorrectAnswer correctAnswer = new CorrectAnswer();
+        correctAnswer.setId(questionId);
+        correctAnswer.setAnswerId(answerId);
+        return correctAnswer;
     }
 }
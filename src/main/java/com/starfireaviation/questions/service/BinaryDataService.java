@@ -32,13 +32,21 @@ public class BinaryDataService {
      */
     private final IMap<Long, BinaryData> cache;
 
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
+
     /**
      * BinaryDataService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
      */
-    public BinaryDataService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+    public BinaryDataService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                             final IdAllocatorFactory idAllocatorFactory) {
         cache = hazelcastInstance.getMap("binarydata");
+        idAllocator = idAllocatorFactory.forMap(cache);
     }
 
     /**
@@ -61,23 +69,8 @@ public class BinaryDataService {
         if (binaryData == null) {
             return null;
         } else if (binaryData.getId() == null) {
-            binaryData.setId(assignId());
+            binaryData.setId(idAllocator.nextId());
         }
         return cache.put(binaryData.getId(), binaryData);
     }
-
-    /**
-     * Finds an ID to assign to an entity.
-     *
-     * @return next ID value
-     */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
-            }
-        }
-        return max + 1;
-    }
 }
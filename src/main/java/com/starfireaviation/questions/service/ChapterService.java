@@ -19,13 +19,12 @@ package com.starfireaviation.questions.service;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
 import com.starfireaviation.common.model.Chapter;
+import com.starfireaviation.questions.index.QuestionHierarchy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -36,27 +35,39 @@ public class ChapterService {
      */
     private final IMap<Long, Chapter> cache;
 
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
+
+    /**
+     * Per-group chapter listing cache.
+     */
+    private final QuestionHierarchy hierarchy;
+
     /**
      * ChapterService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
+     * @param questionHierarchy QuestionHierarchy
      */
-    public ChapterService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
-        cache = hazelcastInstance.getMap("questions");
+    public ChapterService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                          final IdAllocatorFactory idAllocatorFactory,
+                          final QuestionHierarchy questionHierarchy) {
+        cache = hazelcastInstance.getMap("chapters");
+        idAllocator = idAllocatorFactory.forMap(cache);
+        hierarchy = questionHierarchy;
     }
 
     /**
-     * Gets a chapter by group ID.
+     * Gets chapters by group ID.
      *
-     * @param id Chapter ID
-     * @return Chapter
+     * @param id Group ID
+     * @return Chapters, ordered by chapter ID
      */
     public List<Chapter> findByGroupId(final Long id) {
-        return cache
-                .values()
-                .stream()
-                .filter(chapter -> Objects.equals(id, chapter.getGroupId()))
-                .collect(Collectors.toList());
+        return hierarchy.getChapters(id);
     }
 
     /**
@@ -79,23 +90,8 @@ public class ChapterService {
         if (chapter == null) {
             return null;
         } else if (chapter.getChapterId() == null) {
-            chapter.setChapterId(assignId());
+            chapter.setChapterId(idAllocator.nextId());
         }
         return cache.put(chapter.getChapterId(), chapter);
     }
-
-    /**
-     * Finds an ID to assign to an entity.
-     *
-     * @return next ID value
-     */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
-            }
-        }
-        return max + 1;
-    }
 }
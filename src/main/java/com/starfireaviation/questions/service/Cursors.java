@@ -0,0 +1,60 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursors of paginated endpoints, each holding the last ID of the previous page.
+ */
+final class Cursors {
+
+    /**
+     * Cursors.
+     */
+    private Cursors() {
+    }
+
+    /**
+     * Encodes the last ID of a page as a cursor.
+     *
+     * @param lastId last ID returned
+     * @return cursor
+     */
+    static String encode(final long lastId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                Long.toString(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor back to the last ID of the previous page.
+     *
+     * @param cursor cursor
+     * @return last ID returned
+     */
+    static long decode(final String cursor) {
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.service;
+
+/**
+ * Keeps the IDs with the smallest keys among everything offered, in a binary max-heap of primitive arrays, so
+ * picking N of M candidates costs O(M log N) time and O(N) memory.
+ */
+final class DueQueue {
+
+    /**
+     * Keys, heap ordered with the largest at the root.
+     */
+    private final long[] keys;
+
+    /**
+     * ID at the same position.
+     */
+    private final long[] ids;
+
+    /**
+     * Number of IDs held.
+     */
+    private int size;
+
+    /**
+     * DueQueue.
+     *
+     * @param capacity number of IDs to keep
+     */
+    DueQueue(final int capacity) {
+        keys = new long[capacity];
+        ids = new long[capacity];
+    }
+
+    /**
+     * Offers an ID, which is kept if the queue is not full or its key is smaller than the largest key held.
+     *
+     * @param key key, smaller keys come first
+     * @param id ID
+     */
+    void offer(final long key, final long id) {
+        if (size < keys.length) {
+            keys[size] = key;
+            ids[size] = id;
+            siftUp(size++);
+        } else if (size > 0 && key < keys[0]) {
+            keys[0] = key;
+            ids[0] = id;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Empties the queue.
+     *
+     * @return IDs held, by ascending key
+     */
+    long[] drain() {
+        final long[] drained = new long[size];
+        while (size > 0) {
+            drained[--size] = ids[0];
+            keys[0] = keys[size];
+            ids[0] = ids[size];
+            siftDown(0);
+        }
+        return drained;
+    }
+
+    /**
+     * Moves an entry up until its parent's key is not smaller.
+     *
+     * @param index position of the entry
+     */
+    private void siftUp(final int index) {
+        int child = index;
+        while (child > 0) {
+            final int parent = (child - 1) / 2;
+            if (keys[parent] >= keys[child]) {
+                return;
+            }
+            swap(parent, child);
+            child = parent;
+        }
+    }
+
+    /**
+     * Moves an entry down until neither child's key is larger.
+     *
+     * @param index position of the entry
+     */
+    private void siftDown(final int index) {
+        int parent = index;
+        while (true) {
+            final int left = 2 * parent + 1;
+            if (left >= size) {
+                return;
+            }
+            int largest = left;
+            if (left + 1 < size && keys[left + 1] > keys[left]) {
+                largest = left + 1;
+            }
+            if (keys[parent] >= keys[largest]) {
+                return;
+            }
+            swap(parent, largest);
+            parent = largest;
+        }
+    }
+
+    /**
+     * Swaps two entries.
+     *
+     * @param a position
+     * @param b position
+     */
+    private void swap(final int a, final int b) {
+        final long key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+        final long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+    }
+}
@@ -32,13 +32,21 @@ public class FigureSectionService {
      */
     private final IMap<Long, FigureSection> cache;
 
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
+
     /**
      * FigureSectionService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
      */
-    public FigureSectionService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+    public FigureSectionService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                                final IdAllocatorFactory idAllocatorFactory) {
         cache = hazelcastInstance.getMap("figuresection");
+        idAllocator = idAllocatorFactory.forMap(cache);
     }
 
     /**
@@ -61,23 +69,8 @@ public class FigureSectionService {
         if (figureSection == null) {
             return null;
         } else if (figureSection.getFigureSectionId() == null) {
-            figureSection.setFigureSectionId(assignId());
+            figureSection.setFigureSectionId(idAllocator.nextId());
         }
         return cache.put(figureSection.getFigureSectionId(), figureSection);
     }
-
-    /**
-     * Finds an ID to assign to an entity.
-     *
-     * @return next ID value
-     */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
-            }
-        }
-        return max + 1;
-    }
 }
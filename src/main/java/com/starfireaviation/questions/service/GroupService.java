@@ -35,13 +35,21 @@ public class GroupService {
      */
     private final IMap<Long, Group> cache;
 
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
+
     /**
      * GroupService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
      */
-    public GroupService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+    public GroupService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                        final IdAllocatorFactory idAllocatorFactory) {
         cache = hazelcastInstance.getMap("groups");
+        idAllocator = idAllocatorFactory.forMap(cache);
     }
 
     /**
@@ -78,23 +86,8 @@ public class GroupService {
         if (group == null) {
             return null;
         } else if (group.getGroupId() == null) {
-            group.setGroupId(assignId());
+            group.setGroupId(idAllocator.nextId());
         }
         return cache.put(group.getGroupId(), group);
     }
-
-    /**
-     * Finds an ID to assign to an entity.
-     *
-     * @return next ID value
-     */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
-            }
-        }
-        return max + 1;
-    }
 }
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.service;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.starfireaviation.questions.config.ApplicationProperties;
+import com.starfireaviation.questions.config.IdStrategy;
+import com.starfireaviation.questions.model.QuestionScopedKey;
+import com.starfireaviation.questions.persistence.StoredEntries;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.ToLongFunction;
+
+/**
+ * Creates the IdAllocator for each entity map.
+ */
+@Component
+public class IdAllocatorFactory {
+
+    /**
+     * HazelcastInstance.
+     */
+    private final HazelcastInstance hazelcast;
+
+    /**
+     * ApplicationProperties.
+     */
+    private final ApplicationProperties properties;
+
+    /**
+     * IdAllocatorFactory.
+     *
+     * @param hazelcastInstance HazelcastInstance
+     * @param applicationProperties ApplicationProperties
+     */
+    public IdAllocatorFactory(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                              final ApplicationProperties applicationProperties) {
+        hazelcast = hazelcastInstance;
+        properties = applicationProperties;
+    }
+
+    /**
+     * Creates an IdAllocator for a map, using the configured strategy.
+     *
+     * @param map entity map
+     * @return IdAllocator
+     */
+    public IdAllocator forMap(final IMap<Long, ?> map) {
+        return create(map.getName(), key -> (Long) key);
+    }
+
+    /**
+     * Creates an IdAllocator for a map keyed by QuestionScopedKey, using the configured strategy. IDs are unique
+     * across the whole map, not just within a question.
+     *
+     * @param map question scoped entity map
+     * @return IdAllocator
+     */
+    public IdAllocator forScopedMap(final IMap<QuestionScopedKey, ?> map) {
+        return create(map.getName(), key -> ((QuestionScopedKey) key).getId());
+    }
+
+    /**
+     * Creates an IdAllocator, using the configured strategy.
+     *
+     * @param mapName entity map name
+     * @param id ID of a key of the map
+     * @return IdAllocator
+     */
+    private IdAllocator create(final String mapName, final ToLongFunction<Object> id) {
+        if (properties.getIdStrategy() == IdStrategy.FLAKE) {
+            return new FlakeIdAllocator(hazelcast.getFlakeIdGenerator(mapName));
+        }
+        return new SequenceIdAllocator(
+                hazelcast.getCPSubsystem().getAtomicLong(mapName + "-id"),
+                () -> highestId(mapName, id),
+                properties.getIdBlockSize());
+    }
+
+    /**
+     * Finds the highest ID in a map and its store.
+     *
+     * @param mapName entity map name
+     * @param id ID of a key of the map
+     * @return highest ID, 0 when the map is empty
+     */
+    private long highestId(final String mapName, final ToLongFunction<Object> id) {
+        final LongAccumulator highest = new LongAccumulator(Math::max, 0);
+        StoredEntries.forEachKey(hazelcast, mapName, key -> highest.accumulate(id.applyAsLong(key)));
+        return highest.get();
+    }
+
+}
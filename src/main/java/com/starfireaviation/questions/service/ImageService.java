@@ -23,6 +23,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
 /**
  * ImageService.
  */
@@ -35,13 +40,21 @@ public class ImageService {
      */
     private final IMap<Long, Image> cache;
 
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
+
     /**
      * ImageService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
      */
-    public ImageService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+    public ImageService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                        final IdAllocatorFactory idAllocatorFactory) {
         cache = hazelcastInstance.getMap("images");
+        idAllocator = idAllocatorFactory.forMap(cache);
     }
 
     /**
@@ -54,6 +67,16 @@ public class ImageService {
         return cache.get(id);
     }
 
+    /**
+     * Gets images by ID in a single batch.
+     *
+     * @param ids Image IDs
+     * @return Image by ID, omitting IDs that were not found
+     */
+    public Map<Long, Image> getAll(final Collection<Long> ids) {
+        return cache.getAll(ids.stream().filter(Objects::nonNull).collect(Collectors.toSet()));
+    }
+
     /**
      * Saves a Image.
      *
@@ -64,23 +87,8 @@ public class ImageService {
         if (image == null) {
             return null;
         } else if (image.getId() == null) {
-            image.setId(assignId());
+            image.setId(idAllocator.nextId());
         }
         return cache.put(image.getId(), image);
     }
-
-    /**
-     * Finds an ID to assign to an entity.
-     *
-     * @return next ID value
-     */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
-            }
-        }
-        return max + 1;
-    }
 }
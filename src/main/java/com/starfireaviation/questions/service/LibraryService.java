@@ -32,13 +32,21 @@ public class LibraryService {
      */
     private final IMap<Long, Library> cache;
 
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
+
     /**
      * LibraryService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
      */
-    public LibraryService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+    public LibraryService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                          final IdAllocatorFactory idAllocatorFactory) {
         cache = hazelcastInstance.getMap("library");
+        idAllocator = idAllocatorFactory.forMap(cache);
     }
 
     /**
@@ -61,23 +69,8 @@ public class LibraryService {
         if (library == null) {
             return null;
         } else if (library.getId() == null) {
-            library.setId(assignId());
+            library.setId(idAllocator.nextId());
         }
         return cache.put(library.getId(), library);
     }
-
-    /**
-     * Finds an ID to assign to an entity.
-     *
-     * @return next ID value
-     */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
-            }
-        }
-        return max + 1;
-    }
 }
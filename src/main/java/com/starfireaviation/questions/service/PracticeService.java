@@ -0,0 +1,213 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.service;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.starfireaviation.questions.config.ApplicationProperties;
+import com.starfireaviation.questions.index.AnswerKeyIndex;
+import com.starfireaviation.questions.model.ItemCounters;
+import com.starfireaviation.questions.model.PracticeItem;
+import com.starfireaviation.questions.model.QuestionSearchCriteria;
+import com.starfireaviation.questions.model.QuizSession;
+import com.starfireaviation.questions.model.UserItemStats;
+import com.starfireaviation.questions.processor.RecordReviewProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.LongIterator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Spaced-repetition practice: records each user's answers and picks the questions they should see next.
+ *
+ * Statistics live in one entry per user, changed by entry processors on the user's partition. Picking is a single
+ * pass over the facet index matches, merged with the user's sorted question IDs, into a bounded heap.
+ */
+@Slf4j
+@Service
+public class PracticeService {
+
+    /**
+     * Position of the priority tier in a selection key.
+     */
+    private static final int TIER = 61;
+
+    /**
+     * Position of the ease factor in a selection key.
+     */
+    private static final int EASE = 32;
+
+    /**
+     * Tier of questions never answered, after the due ones.
+     */
+    private static final long UNSEEN = 1L << TIER;
+
+    /**
+     * Tier of questions not due yet, picked only when nothing else is left.
+     */
+    private static final long AHEAD = 2L << TIER;
+
+    /**
+     * UserItemStats Cache.
+     */
+    private final IMap<Long, UserItemStats> cache;
+
+    /**
+     * QuestionSearchService.
+     */
+    private final QuestionSearchService questionSearchService;
+
+    /**
+     * AnswerKeyIndex.
+     */
+    private final AnswerKeyIndex answerKeyIndex;
+
+    /**
+     * Interval after a wrong answer, in minutes.
+     */
+    private final int relearnMinutes;
+
+    /**
+     * PracticeService.
+     *
+     * @param hazelcastInstance HazelcastInstance
+     * @param search QuestionSearchService
+     * @param answerKey AnswerKeyIndex
+     * @param applicationProperties ApplicationProperties
+     */
+    public PracticeService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                           final QuestionSearchService search,
+                           final AnswerKeyIndex answerKey,
+                           final ApplicationProperties applicationProperties) {
+        cache = hazelcastInstance.getMap("useritemstats");
+        questionSearchService = search;
+        answerKeyIndex = answerKey;
+        relearnMinutes = applicationProperties.getPracticeRelearnMinutes();
+    }
+
+    /**
+     * Records a user's answer to a question and schedules the question's next review.
+     *
+     * @param userId user ID
+     * @param questionId question ID
+     * @param answerId answer ID
+     * @return the question's updated statistics, null when the question has no correct answer to grade against
+     */
+    public PracticeItem record(final long userId, final long questionId, final long answerId) {
+        final long correctAnswerId = answerKeyIndex.getCorrectAnswerId(questionId);
+        if (correctAnswerId == AnswerKeyIndex.NO_ANSWER) {
+            return null;
+        }
+        return review(userId, new long[] {questionId}, new boolean[] {correctAnswerId == answerId}).get(0);
+    }
+
+    /**
+     * Records the answers of a completed quiz session for its user, one review per answered question with a correct
+     * answer to grade against.
+     *
+     * @param session completed QuizSession
+     */
+    public void recordSession(final QuizSession session) {
+        final long[] questionIds = session.getQuestionIds();
+        final long[] answerIds = session.getAnswerIds();
+        final long[] reviewed = new long[questionIds.length];
+        final boolean[] correct = new boolean[questionIds.length];
+        int count = 0;
+        for (int i = 0; i < questionIds.length; i++) {
+            final long correctAnswerId = answerKeyIndex.getCorrectAnswerId(questionIds[i]);
+            if (answerIds[i] != 0 && correctAnswerId != AnswerKeyIndex.NO_ANSWER) {
+                reviewed[count] = questionIds[i];
+                correct[count++] = correctAnswerId == answerIds[i];
+            }
+        }
+        if (count > 0) {
+            review(session.getUserId(), Arrays.copyOf(reviewed, count), Arrays.copyOf(correct, count));
+        }
+    }
+
+    /**
+     * Picks the questions matching search criteria that a user should practice next.
+     *
+     * Due questions come first, lowest ease factor (most often missed) first, then the most overdue. Questions never
+     * answered follow in ID order, then questions not due yet, soonest due first.
+     *
+     * @param userId user ID
+     * @param criteria QuestionSearchCriteria
+     * @param count maximum number of questions to pick
+     * @return question IDs, in practice order
+     */
+    public List<Long> next(final long userId, final QuestionSearchCriteria criteria, final int count) {
+        UserItemStats stats = cache.get(userId);
+        if (stats == null) {
+            stats = new UserItemStats();
+        }
+        final long[] answered = stats.getQuestionIds();
+        final int now = (int) TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+        final DueQueue queue = new DueQueue(count);
+        final LongIterator candidates = questionSearchService.search(criteria).getLongIterator();
+        int index = 0;
+        long unseen = UNSEEN;
+        while (candidates.hasNext()) {
+            final long questionId = candidates.next();
+            while (index < answered.length && answered[index] < questionId) {
+                index++;
+            }
+            if (index < answered.length && answered[index] == questionId) {
+                queue.offer(key(stats, index, now), questionId);
+            } else {
+                queue.offer(unseen++, questionId);
+            }
+        }
+        return LongStream.of(queue.drain()).boxed().collect(Collectors.toList());
+    }
+
+    /**
+     * Records reviews of a user in one call on the user's partition.
+     *
+     * @param userId user ID
+     * @param questionIds question IDs
+     * @param correct whether the answer to the question at the same position was correct
+     * @return the updated statistics of each question
+     */
+    private List<PracticeItem> review(final long userId, final long[] questionIds, final boolean[] correct) {
+        return cache.executeOnKey(userId, new RecordReviewProcessor(questionIds, correct,
+                (int) TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis()), relearnMinutes));
+    }
+
+    /**
+     * Computes the selection key of an answered question; smaller keys are picked first.
+     *
+     * @param stats UserItemStats
+     * @param index position of the question
+     * @param now current time, in minutes since the epoch
+     * @return key
+     */
+    private static long key(final UserItemStats stats, final int index, final int now) {
+        final int dueAt = stats.getDueAt()[index];
+        if (dueAt <= now) {
+            return ((long) ItemCounters.ease(stats.getCounters()[index]) << EASE) | dueAt;
+        }
+        return AHEAD | dueAt;
+    }
+
+}
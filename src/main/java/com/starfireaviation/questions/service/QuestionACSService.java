@@ -18,11 +18,15 @@ package com.starfireaviation.questions.service;
 
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
 import com.starfireaviation.common.model.QuestionACS;
+import com.starfireaviation.questions.model.QuestionScopedKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -34,15 +38,23 @@ public class QuestionACSService {
     /**
      * QuestionACS Cache.
      */
-    private final IMap<Long, QuestionACS> cache;
+    private final IMap<QuestionScopedKey, QuestionACS> cache;
+
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
 
     /**
      * GroupService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
      */
-    public QuestionACSService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+    public QuestionACSService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                              final IdAllocatorFactory idAllocatorFactory) {
         cache = hazelcastInstance.getMap("questionacs");
+        idAllocator = idAllocatorFactory.forScopedMap(cache);
     }
 
     /**
@@ -66,11 +78,20 @@ public class QuestionACSService {
      * @return QuestionACS
      */
     public List<QuestionACS> findByQuestionId(final Long questionId) {
-        return cache
-                .values()
-                .stream()
-                .filter(questionACS -> Objects.equals(questionACS.getQuestionId(), questionId))
-                .collect(Collectors.toList());
+        return QuestionScopedMaps.findByQuestionId(cache, questionId);
+    }
+
+    /**
+     * Gets the QuestionACS entries for several questions in a single indexed query.
+     *
+     * @param questionIds Question IDs
+     * @return QuestionACS list
+     */
+    public List<QuestionACS> findByQuestionIds(final Collection<Long> questionIds) {
+        if (questionIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(cache.values(Predicates.in("questionId", questionIds.toArray(new Long[0]))));
     }
 
     /**
@@ -80,7 +101,18 @@ public class QuestionACSService {
      * @return QuestionACS
      */
     public QuestionACS get(final Long id) {
-        return cache.get(id);
+        return get(id, null);
+    }
+
+    /**
+     * Gets a QuestionACS by ID.
+     *
+     * @param id QuestionACS ID
+     * @param questionId question ID, which saves looking up the key when given
+     * @return QuestionACS
+     */
+    public QuestionACS get(final Long id, final Long questionId) {
+        return QuestionScopedMaps.get(cache, id, questionId);
     }
 
     /**
@@ -93,23 +125,20 @@ public class QuestionACSService {
         if (questionACS == null) {
             return null;
         } else if (questionACS.getId() == null) {
-            questionACS.setId(assignId());
+            questionACS.setId(idAllocator.nextId());
+        } else {
+            QuestionScopedMaps.removeMoved(cache, key(questionACS));
         }
-        return cache.put(questionACS.getId(), questionACS);
+        return cache.put(key(questionACS), questionACS);
     }
 
     /**
-     * Finds an ID to assign to an entity.
+     * Gets the key of a QuestionACS.
      *
-     * @return next ID value
+     * @param questionACS QuestionACS
+     * @return QuestionScopedKey
      */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
-            }
-        }
-        return max + 1;
+    private static QuestionScopedKey key(final QuestionACS questionACS) {
+        return new QuestionScopedKey(questionACS.getId(), questionACS.getQuestionId());
     }
 }
@@ -0,0 +1,237 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.service;
+
+import com.starfireaviation.common.model.ACS;
+import com.starfireaviation.common.model.Answer;
+import com.starfireaviation.common.model.Image;
+import com.starfireaviation.common.model.Question;
+import com.starfireaviation.common.model.QuestionACS;
+import com.starfireaviation.common.model.QuestionRefImage;
+import com.starfireaviation.common.model.QuestionReference;
+import com.starfireaviation.questions.model.QuestionBundle;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Assembles a QuestionBundle from concurrent, batched lookups.
+ */
+@Slf4j
+@Service
+public class QuestionBundleService {
+
+    /**
+     * QuestionService.
+     */
+    private final QuestionService questionService;
+
+    /**
+     * AnswerService.
+     */
+    private final AnswerService answerService;
+
+    /**
+     * ImageService.
+     */
+    private final ImageService imageService;
+
+    /**
+     * ACSService.
+     */
+    private final ACSService acsService;
+
+    /**
+     * QuestionACSService.
+     */
+    private final QuestionACSService questionACSService;
+
+    /**
+     * QuestionRefImageService.
+     */
+    private final QuestionRefImageService questionRefImageService;
+
+    /**
+     * QuestionReferenceService.
+     */
+    private final QuestionReferenceService questionReferenceService;
+
+    /**
+     * Executor for the sub-lookups.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * QuestionBundleService.
+     *
+     * @param questions QuestionService
+     * @param answers AnswerService
+     * @param images ImageService
+     * @param acs ACSService
+     * @param questionACS QuestionACSService
+     * @param questionRefImages QuestionRefImageService
+     * @param questionReferences QuestionReferenceService
+     * @param fanOutExecutor executor for the sub-lookups
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public QuestionBundleService(final QuestionService questions,
+                                 final AnswerService answers,
+                                 final ImageService images,
+                                 final ACSService acs,
+                                 final QuestionACSService questionACS,
+                                 final QuestionRefImageService questionRefImages,
+                                 final QuestionReferenceService questionReferences,
+                                 @Qualifier("fanOutExecutor") final ExecutorService fanOutExecutor) {
+        questionService = questions;
+        answerService = answers;
+        imageService = images;
+        acsService = acs;
+        questionACSService = questionACS;
+        questionRefImageService = questionRefImages;
+        questionReferenceService = questionReferences;
+        executor = fanOutExecutor;
+    }
+
+    /**
+     * Gets a question together with its answers, images, ACS codes and references.
+     *
+     * The five lookups run concurrently.
+     *
+     * @param questionId question ID
+     * @return QuestionBundle, or null when the question does not exist
+     */
+    public QuestionBundle get(final Long questionId) {
+        final CompletableFuture<Question> question = async(() -> questionService.get(questionId));
+        final CompletableFuture<List<Answer>> answers = async(() -> answerService.findByQuestionId(questionId));
+        final CompletableFuture<List<Image>> images = async(() -> getImages(questionId));
+        final CompletableFuture<List<String>> acsCodes = async(() -> getACSCodes(questionId));
+        final CompletableFuture<List<QuestionReference>> references =
+                async(() -> questionReferenceService.findByQuestionId(questionId));
+        CompletableFuture.allOf(question, answers, images, acsCodes, references).join();
+        if (question.join() == null) {
+            return null;
+        }
+        final QuestionBundle bundle = new QuestionBundle();
+        bundle.setQuestion(question.join());
+        bundle.setAnswers(answers.join());
+        bundle.setImages(images.join());
+        bundle.setAcsCodes(acsCodes.join());
+        bundle.setReferences(references.join());
+        return bundle;
+    }
+
+    /**
+     * Gets the images for a question with one batched read.
+     *
+     * @param questionId question ID
+     * @return Image list
+     */
+    public List<Image> getImages(final Long questionId) {
+        return getImages(Collections.singletonList(questionId)).get(questionId);
+    }
+
+    /**
+     * Gets the images for several questions with one indexed query and one batched read.
+     *
+     * @param questionIds question IDs
+     * @return Image lists by question ID
+     */
+    public Map<Long, List<Image>> getImages(final Collection<Long> questionIds) {
+        final List<QuestionRefImage> links = questionRefImageService.findByQuestionIds(questionIds);
+        final Map<Long, Image> images = imageService.getAll(links
+                .stream()
+                .map(QuestionRefImage::getImageId)
+                .collect(Collectors.toList()));
+        final Map<Long, List<Image>> result = emptyLists(questionIds);
+        links.forEach(link -> {
+            final Image image = images.get(link.getImageId());
+            if (image != null) {
+                result.computeIfAbsent(link.getQuestionId(), id -> new ArrayList<>()).add(image);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Gets the ACS codes for a question with one batched read.
+     *
+     * @param questionId question ID
+     * @return distinct ACS codes, sorted
+     */
+    public List<String> getACSCodes(final Long questionId) {
+        return getACSCodes(Collections.singletonList(questionId)).get(questionId);
+    }
+
+    /**
+     * Gets the ACS codes for several questions with one indexed query and one batched read.
+     *
+     * @param questionIds question IDs
+     * @return distinct, sorted ACS codes by question ID
+     */
+    public Map<Long, List<String>> getACSCodes(final Collection<Long> questionIds) {
+        final List<QuestionACS> links = questionACSService.findByQuestionIds(questionIds);
+        final Map<Long, ACS> acs = acsService.getAll(links
+                .stream()
+                .map(QuestionACS::getAcsId)
+                .collect(Collectors.toList()));
+        final Map<Long, List<String>> result = emptyLists(questionIds);
+        links.forEach(link -> {
+            final ACS entry = acs.get(link.getAcsId());
+            if (entry != null && entry.getCode() != null) {
+                result.computeIfAbsent(link.getQuestionId(), id -> new ArrayList<>()).add(entry.getCode());
+            }
+        });
+        result.replaceAll((id, codes) -> codes.stream().distinct().sorted().collect(Collectors.toList()));
+        return result;
+    }
+
+    /**
+     * Creates a result map holding an empty list for each question.
+     *
+     * @param questionIds question IDs
+     * @param <T> element type
+     * @return result map, in request order
+     */
+    private static <T> Map<Long, List<T>> emptyLists(final Collection<Long> questionIds) {
+        final Map<Long, List<T>> result = new LinkedHashMap<>();
+        questionIds.forEach(id -> result.put(id, new ArrayList<>()));
+        return result;
+    }
+
+    /**
+     * Runs a lookup on the fan-out executor.
+     *
+     * @param lookup lookup
+     * @param <T> result type
+     * @return CompletableFuture
+     */
+    private <T> CompletableFuture<T> async(final Supplier<T> lookup) {
+        return CompletableFuture.supplyAsync(lookup, executor);
+    }
+
+}
@@ -18,11 +18,15 @@ package com.starfireaviation.questions.service;
 
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
 import com.starfireaviation.common.model.QuestionRefImage;
+import com.starfireaviation.questions.model.QuestionScopedKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -34,15 +38,23 @@ public class QuestionRefImageService {
     /**
      * QuestionRefImage Cache.
      */
-    private final IMap<Long, QuestionRefImage> cache;
+    private final IMap<QuestionScopedKey, QuestionRefImage> cache;
+
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
 
     /**
      * QuestionRefImageService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
      */
-    public QuestionRefImageService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+    public QuestionRefImageService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                                   final IdAllocatorFactory idAllocatorFactory) {
         cache = hazelcastInstance.getMap("questionrefimage");
+        idAllocator = idAllocatorFactory.forScopedMap(cache);
     }
 
     /**
@@ -52,11 +64,20 @@ public class QuestionRefImageService {
      * @return QuestionRefImages
      */
     public List<QuestionRefImage> findByQuestionId(final Long questionId) {
-        return cache
-                .values()
-                .stream()
-                .filter(questionRefImage -> Objects.equals(questionRefImage.getQuestionId(), questionId))
-                .collect(Collectors.toList());
+        return QuestionScopedMaps.findByQuestionId(cache, questionId);
+    }
+
+    /**
+     * Gets the QuestionRefImage entries for several questions in a single indexed query.
+     *
+     * @param questionIds Question IDs
+     * @return QuestionRefImage list
+     */
+    public List<QuestionRefImage> findByQuestionIds(final Collection<Long> questionIds) {
+        if (questionIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(cache.values(Predicates.in("questionId", questionIds.toArray(new Long[0]))));
     }
 
     /**
@@ -80,7 +101,18 @@ public class QuestionRefImageService {
      * @return QuestionRefImage
      */
     public QuestionRefImage get(final Long id) {
-        return cache.get(id);
+        return get(id, null);
+    }
+
+    /**
+     * Gets a QuestionRefImage by ID.
+     *
+     * @param id QuestionRefImage ID
+     * @param questionId question ID, which saves looking up the key when given
+     * @return QuestionRefImage
+     */
+    public QuestionRefImage get(final Long id, final Long questionId) {
+        return QuestionScopedMaps.get(cache, id, questionId);
     }
 
     /**
@@ -93,23 +125,20 @@ public class QuestionRefImageService {
         if (questionRefImage == null) {
             return null;
         } else if (questionRefImage.getId() == null) {
-            questionRefImage.setId(assignId());
+            questionRefImage.setId(idAllocator.nextId());
+        } else {
+            QuestionScopedMaps.removeMoved(cache, key(questionRefImage));
         }
-        return cache.put(questionRefImage.getId(), questionRefImage);
+        return cache.put(key(questionRefImage), questionRefImage);
     }
 
     /**
-     * Finds an ID to assign to an entity.
+     * Gets the key of a QuestionRefImage.
      *
-     * @return next ID value
+     * @param questionRefImage QuestionRefImage
+     * @return QuestionScopedKey
      */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
-            }
-        }
-        return max + 1;
+    private static QuestionScopedKey key(final QuestionRefImage questionRefImage) {
+        return new QuestionScopedKey(questionRefImage.getId(), questionRefImage.getQuestionId());
     }
 }
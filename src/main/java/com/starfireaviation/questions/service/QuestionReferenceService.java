@@ -18,11 +18,13 @@ package com.starfireaviation.questions.service;
 
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
 import com.starfireaviation.common.model.QuestionReference;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -36,13 +38,21 @@ public class QuestionReferenceService {
      */
     private final IMap<Long, QuestionReference> cache;
 
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
+
     /**
      * QuestionReferenceService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
      */
-    public QuestionReferenceService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+    public QuestionReferenceService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                                    final IdAllocatorFactory idAllocatorFactory) {
         cache = hazelcastInstance.getMap("questionreference");
+        idAllocator = idAllocatorFactory.forMap(cache);
     }
 
     /**
@@ -52,11 +62,7 @@ public class QuestionReferenceService {
      * @return QuestionReference
      */
     public List<QuestionReference> findByQuestionId(final Long questionId) {
-        return cache
-                .values()
-                .stream()
-                .filter(questionReference -> Objects.equals(questionReference.getQuestionId(), questionId))
-                .collect(Collectors.toList());
+        return new ArrayList<>(cache.values(Predicates.equal("questionId", questionId)));
     }
 
     /**
@@ -93,23 +99,8 @@ public class QuestionReferenceService {
         if (questionReference == null) {
             return null;
         } else if (questionReference.getId() == null) {
-            questionReference.setId(assignId());
+            questionReference.setId(idAllocator.nextId());
         }
         return cache.put(questionReference.getId(), questionReference);
     }
-
-    /**
-     * Finds an ID to assign to an entity.
-     *
-     * @return next ID value
-     */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
-            }
-        }
-        return max + 1;
-    }
 }
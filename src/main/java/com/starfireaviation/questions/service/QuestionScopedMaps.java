@@ -0,0 +1,109 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.service;
+
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
+import com.starfireaviation.questions.model.QuestionScopedKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Lookups shared by the services of maps keyed by QuestionScopedKey.
+ */
+final class QuestionScopedMaps {
+
+    /**
+     * Key attribute holding the entry ID.
+     */
+    static final String ID_ATTRIBUTE = "__key.id";
+
+    /**
+     * QuestionScopedMaps.
+     */
+    private QuestionScopedMaps() {
+    }
+
+    /**
+     * Finds the key of an entry from its ID alone, with an indexed query.
+     *
+     * @param map question scoped map
+     * @param id entry ID
+     * @return key, null when no entry has the ID
+     */
+    static QuestionScopedKey keyOf(final IMap<QuestionScopedKey, ?> map, final Long id) {
+        if (id == null) {
+            return null;
+        }
+        return map.keySet(Predicates.equal(ID_ATTRIBUTE, id)).stream().findFirst().orElse(null);
+    }
+
+    /**
+     * Gets an entry. With its question ID this is a single keyed call; from its ID alone the key is looked up first.
+     *
+     * @param map question scoped map
+     * @param id entry ID
+     * @param questionId question ID of the entry, null when not known
+     * @param <V> entry type
+     * @return entry, null when no entry has the ID
+     */
+    static <V> V get(final IMap<QuestionScopedKey, V> map, final Long id, final Long questionId) {
+        if (questionId != null) {
+            return map.get(new QuestionScopedKey(id, questionId));
+        }
+        final QuestionScopedKey key = keyOf(map, id);
+        if (key == null) {
+            return null;
+        }
+        return map.get(key);
+    }
+
+    /**
+     * Gets the entries of a question by querying only the partition that owns it.
+     *
+     * @param map question scoped map
+     * @param questionId question ID
+     * @param <V> entry type
+     * @return entries of the question
+     */
+    static <V> List<V> findByQuestionId(final IMap<QuestionScopedKey, V> map, final Long questionId) {
+        if (questionId == null) {
+            return new ArrayList<>(map.values(Predicates.equal("questionId", null)));
+        }
+        return new ArrayList<>(map.values(
+                Predicates.partitionPredicate(questionId, Predicates.equal("questionId", questionId))));
+    }
+
+    /**
+     * Removes an entry from under the question it is currently stored with when it is about to be stored under
+     * another one, so that it never belongs to two questions at once.
+     *
+     * @param map question scoped map
+     * @param key key the entry is about to be stored under
+     * @return question ID the entry was moved from, null when it was not stored under another question
+     */
+    static Long removeMoved(final IMap<QuestionScopedKey, ?> map, final QuestionScopedKey key) {
+        final QuestionScopedKey current = keyOf(map, key.getId());
+        if (current == null || Objects.equals(current.getQuestionId(), key.getQuestionId())) {
+            return null;
+        }
+        map.delete(current);
+        return current.getQuestionId();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.service;
+
+import com.starfireaviation.common.model.ACS;
+import com.starfireaviation.questions.index.AcsCodeIndex;
+import com.starfireaviation.questions.index.QuestionFacetIndex;
+import com.starfireaviation.questions.index.QuestionHierarchy;
+import com.starfireaviation.questions.model.QuestionIdPage;
+import com.starfireaviation.questions.model.QuestionSearchCriteria;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.PeekableLongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * QuestionSearchService.
+ */
+@Slf4j
+@Service
+public class QuestionSearchService {
+
+    /**
+     * QuestionFacetIndex.
+     */
+    private final QuestionFacetIndex facetIndex;
+
+    /**
+     * QuestionHierarchy.
+     */
+    private final QuestionHierarchy hierarchy;
+
+    /**
+     * ACSService.
+     */
+    private final ACSService acsService;
+
+    /**
+     * AcsCodeIndex.
+     */
+    private final AcsCodeIndex acsCodeIndex;
+
+    /**
+     * QuestionSearchService.
+     *
+     * @param questionFacetIndex QuestionFacetIndex
+     * @param questionHierarchy QuestionHierarchy
+     * @param acs ACSService
+     * @param acsCodes AcsCodeIndex
+     */
+    public QuestionSearchService(final QuestionFacetIndex questionFacetIndex,
+                                 final QuestionHierarchy questionHierarchy,
+                                 final ACSService acs,
+                                 final AcsCodeIndex acsCodes) {
+        facetIndex = questionFacetIndex;
+        hierarchy = questionHierarchy;
+        acsService = acs;
+        acsCodeIndex = acsCodes;
+    }
+
+    /**
+     * Finds the IDs of questions matching all provided criteria.
+     *
+     * Criteria left null do not restrict the result, so empty criteria match every question.
+     *
+     * @param criteria QuestionSearchCriteria
+     * @return matching question IDs
+     */
+    public Roaring64Bitmap search(final QuestionSearchCriteria criteria) {
+        final Roaring64Bitmap result = facetIndex.all();
+        if (criteria.getGroupAbbr() != null) {
+            result.and(facetIndex.byChapters(hierarchy.getChapterIds(criteria.getGroupAbbr())));
+        }
+        if (criteria.getChapter() != null) {
+            result.and(facetIndex.byChapters(Collections.singletonList(criteria.getChapter())));
+        }
+        if (criteria.getAcsCode() != null) {
+            result.and(facetIndex.byAcs(acsService
+                    .findByCode(criteria.getAcsCode())
+                    .stream()
+                    .map(ACS::getId)
+                    .collect(Collectors.toList())));
+        }
+        if (criteria.getAcsPrefix() != null) {
+            result.and(facetIndex.byAcs(acsCodeIndex.subtree(criteria.getAcsPrefix())));
+        }
+        if (criteria.getLearningStatementCode() != null) {
+            result.and(facetIndex.byLearningStatementCode(criteria.getLearningStatementCode()));
+        }
+        return result;
+    }
+
+    /**
+     * Finds the IDs of questions matching all provided criteria.
+     *
+     * @param criteria QuestionSearchCriteria
+     * @return matching question IDs in ascending order
+     */
+    public List<Long> searchIds(final QuestionSearchCriteria criteria) {
+        final List<Long> ids = new ArrayList<>();
+        search(criteria).forEach(ids::add);
+        return ids;
+    }
+
+    /**
+     * Gets one page of the IDs of questions matching all provided criteria.
+     *
+     * @param criteria QuestionSearchCriteria
+     * @param cursor cursor returned with the previous page, null for the first page
+     * @param limit maximum number of IDs to return
+     * @return QuestionIdPage
+     */
+    public QuestionIdPage searchPage(final QuestionSearchCriteria criteria, final String cursor, final int limit) {
+        final PeekableLongIterator iterator = search(criteria).getLongIterator();
+        if (cursor != null) {
+            iterator.advanceIfNeeded(Cursors.decode(cursor) + 1);
+        }
+        final List<Long> ids = new ArrayList<>();
+        while (iterator.hasNext() && ids.size() < limit) {
+            ids.add(iterator.next());
+        }
+        final QuestionIdPage page = new QuestionIdPage();
+        page.setIds(ids);
+        if (iterator.hasNext() && !ids.isEmpty()) {
+            page.setNextCursor(Cursors.encode(ids.get(ids.size() - 1)));
+        }
+        return page;
+    }
+
+}
@@ -19,13 +19,18 @@ package com.starfireaviation.questions.service;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
 import com.starfireaviation.common.model.Question;
+import com.starfireaviation.questions.index.QuestionFacetIndex;
 import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Question Service.
@@ -39,13 +44,29 @@ public class QuestionService {
      */
     private final IMap<Long, Question> cache;
 
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
+
+    /**
+     * QuestionFacetIndex.
+     */
+    private final QuestionFacetIndex facetIndex;
+
     /**
      * QuestionService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
+     * @param questionFacetIndex QuestionFacetIndex
      */
-    public QuestionService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+    public QuestionService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                           final IdAllocatorFactory idAllocatorFactory,
+                           final QuestionFacetIndex questionFacetIndex) {
         cache = hazelcastInstance.getMap("questions");
+        idAllocator = idAllocatorFactory.forMap(cache);
+        facetIndex = questionFacetIndex;
     }
 
     /**
@@ -55,11 +76,7 @@ public class QuestionService {
      * @return list of Questions
      */
     public List<Question> findByChapterId(final Long chapterId) {
-        return cache
-                .values()
-                .stream()
-                .filter(question -> Objects.equals(question.getChapterId(), chapterId))
-                .collect(Collectors.toList());
+        return getAll(facetIndex.byChapters(Collections.singletonList(chapterId)));
     }
 
     /**
@@ -69,11 +86,27 @@ public class QuestionService {
      * @return list of Questions
      */
     public List<Question> findByLearningStatementCode(final String lsc) {
-        return cache
-                .values()
-                .stream()
-                .filter(question -> Objects.equals(question.getLearningStatementCode(), lsc))
-                .collect(Collectors.toList());
+        return getAll(facetIndex.byLearningStatementCode(lsc));
+    }
+
+    /**
+     * Gets questions by ID, reading through to the store for any the map has evicted.
+     *
+     * @param ids question IDs
+     * @return list of Questions in ID order
+     */
+    private List<Question> getAll(final Roaring64Bitmap ids) {
+        final Set<Long> keys = new HashSet<>();
+        ids.forEach(keys::add);
+        final Map<Long, Question> questions = cache.getAll(keys);
+        final List<Question> result = new ArrayList<>();
+        ids.forEach(id -> {
+            final Question question = questions.get(id);
+            if (question != null) {
+                result.add(question);
+            }
+        });
+        return result;
     }
 
     /**
@@ -96,23 +129,8 @@ public class QuestionService {
         if (question == null) {
             return null;
         } else if (question.getId() == null) {
-            question.setId(assignId());
+            question.setId(idAllocator.nextId());
         }
         return cache.put(question.getId(), question);
     }
-
-    /**
-     * Finds an ID to assign to an entity.
-     *
-     * @return next ID value
-     */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
-            }
-        }
-        return max + 1;
-    }
 }
@@ -36,13 +36,21 @@ public class QuestionTestService {
      */
     private final IMap<Long, QuestionTest> cache;
 
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
+
     /**
      * QuestionTestService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
      */
-    public QuestionTestService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+    public QuestionTestService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                               final IdAllocatorFactory idAllocatorFactory) {
         cache = hazelcastInstance.getMap("questiontest");
+        idAllocator = idAllocatorFactory.forMap(cache);
     }
 
     /**
@@ -93,23 +101,8 @@ public class QuestionTestService {
         if (questionTest == null) {
             return null;
         } else if (questionTest.getId() == null) {
-            questionTest.setId(assignId());
+            questionTest.setId(idAllocator.nextId());
         }
         return cache.put(questionTest.getId(), questionTest);
     }
-
-    /**
-     * Finds an ID to assign to an entity.
-     *
-     * @return next ID value
-     */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
-            }
-        }
-        return max + 1;
-    }
 }
@@ -0,0 +1,162 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.service;
+
+import com.starfireaviation.common.model.Quiz;
+import com.starfireaviation.questions.model.GeneratedQuiz;
+import com.starfireaviation.questions.model.QuestionSearchCriteria;
+import com.starfireaviation.questions.model.QuizGenerationRequest;
+import com.starfireaviation.questions.model.QuizQuota;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates quizzes by sampling the question bank.
+ *
+ * Candidates for each quota, and for the remainder, are the facet index bitmaps of their criteria. Questions are
+ * drawn by picking random ranks and selecting them from the bitmap, so a draw of k questions costs O(k) lookups no
+ * matter how many questions match.
+ */
+@Slf4j
+@Service
+public class QuizGenerationService {
+
+    /**
+     * QuestionSearchService.
+     */
+    private final QuestionSearchService searchService;
+
+    /**
+     * QuizService.
+     */
+    private final QuizService quizService;
+
+    /**
+     * QuizGenerationService.
+     *
+     * @param questionSearchService QuestionSearchService
+     * @param quizzes QuizService
+     */
+    public QuizGenerationService(final QuestionSearchService questionSearchService, final QuizService quizzes) {
+        searchService = questionSearchService;
+        quizService = quizzes;
+    }
+
+    /**
+     * Generates and saves a quiz.
+     *
+     * Quotas are filled in order, each from the questions matching both the request criteria and its own, and no
+     * question is drawn twice. The remaining questions are drawn from everything matching the request criteria, then
+     * the whole quiz is shuffled.
+     *
+     * @param request QuizGenerationRequest
+     * @return GeneratedQuiz
+     */
+    public GeneratedQuiz generate(final QuizGenerationRequest request) {
+        long seed = ThreadLocalRandom.current().nextLong();
+        if (request.getSeed() != null) {
+            seed = request.getSeed();
+        }
+        final SplittableRandom random = new SplittableRandom(seed);
+        final Roaring64Bitmap pool = searchService.search(request.getCriteria());
+        final Roaring64Bitmap chosen = new Roaring64Bitmap();
+        final List<Long> questionIds = new ArrayList<>(request.getCount());
+        int remaining = request.getCount();
+        for (final QuizQuota quota : request.getQuotas()) {
+            final Roaring64Bitmap area = searchService.search(quota.getCriteria());
+            area.and(pool);
+            area.andNot(chosen);
+            draw(area, quota.getCount(), random, quota.getCriteria(), questionIds, chosen);
+            remaining -= quota.getCount();
+        }
+        pool.andNot(chosen);
+        draw(pool, remaining, random, request.getCriteria(), questionIds, chosen);
+        shuffle(questionIds, random);
+
+        final Quiz quiz = new Quiz();
+        quiz.setLessonPlanId(request.getLessonPlanId());
+        quizService.save(quiz);
+        quizService.saveQuestionIds(quiz.getId(), questionIds);
+        log.info("Generated quiz {} with {} questions from seed {}", quiz.getId(), questionIds.size(), seed);
+
+        final GeneratedQuiz generated = new GeneratedQuiz();
+        generated.setQuiz(quiz);
+        generated.setQuestionIds(questionIds);
+        generated.setSeed(seed);
+        return generated;
+    }
+
+    /**
+     * Draws distinct questions at random from a set of candidates, using Floyd's algorithm over candidate ranks.
+     *
+     * @param candidates candidate question IDs
+     * @param count number of questions to draw
+     * @param random SplittableRandom
+     * @param criteria criteria the candidates match, for the error message
+     * @param questionIds drawn questions are appended here
+     * @param chosen drawn questions are added here
+     */
+    private static void draw(final Roaring64Bitmap candidates,
+                             final int count,
+                             final SplittableRandom random,
+                             final QuestionSearchCriteria criteria,
+                             final List<Long> questionIds,
+                             final Roaring64Bitmap chosen) {
+        final long size = candidates.getLongCardinality();
+        if (size < count) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    String.format("Only %d unused questions match %s, %d requested", size, criteria, count));
+        }
+        final Set<Long> ranks = new LinkedHashSet<>();
+        for (long j = size - count; j < size; j++) {
+            final long rank = random.nextLong(j + 1);
+            if (ranks.add(rank)) {
+                continue;
+            }
+            ranks.add(j);
+        }
+        for (final long rank : ranks) {
+            final long id = candidates.select(rank);
+            questionIds.add(id);
+            chosen.addLong(id);
+        }
+    }
+
+    /**
+     * Shuffles a list in place.
+     *
+     * @param list list
+     * @param random SplittableRandom
+     */
+    private static void shuffle(final List<Long> list, final SplittableRandom random) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+
+}
@@ -18,13 +18,23 @@ package com.starfireaviation.questions.service;
 
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
 import com.starfireaviation.common.model.Quiz;
+import com.starfireaviation.questions.model.QuizQuestions;
+import com.starfireaviation.questions.model.QuizSummary;
+import com.starfireaviation.questions.model.QuizSummaryPage;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -34,18 +44,37 @@ import java.util.stream.Collectors;
 @Service
 public class QuizService {
 
+    /**
+     * Indexed lesson plan attribute.
+     */
+    private static final String LESSON_PLAN_ID = "lessonPlanId";
+
     /**
      * Quiz Cache.
      */
     private final IMap<Long, Quiz> cache;
 
+    /**
+     * Quiz questions Cache.
+     */
+    private final IMap<Long, QuizQuestions> questionsCache;
+
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
+
     /**
      * QuizService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
      */
-    public QuizService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+    public QuizService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                       final IdAllocatorFactory idAllocatorFactory) {
         cache = hazelcastInstance.getMap("quiz");
+        questionsCache = hazelcastInstance.getMap("quizquestions");
+        idAllocator = idAllocatorFactory.forMap(cache);
     }
 
     /**
@@ -65,11 +94,43 @@ public class QuizService {
      * @return Quiz
      */
     public List<Quiz> findByLessonPlanId(final Long lessonPlanId) {
-        return cache
-                .values()
+        return new ArrayList<>(cache.values(Predicates.equal(LESSON_PLAN_ID, lessonPlanId)));
+    }
+
+    /**
+     * Gets one page of summaries of the quizzes for a lesson plan.
+     *
+     * Only matching keys are read, ordered by ID and cut at one past the limit on each member, so a page costs
+     * the page size rather than every remaining quiz of the lesson plan.
+     *
+     * @param lessonPlanId Long
+     * @param cursor cursor returned with the previous page, null for the first page
+     * @param limit maximum number of quizzes to return
+     * @return QuizSummaryPage
+     */
+    public QuizSummaryPage findSummariesByLessonPlanId(final Long lessonPlanId, final String cursor, final int limit) {
+        Predicate<Long, Quiz> predicate = Predicates.equal(LESSON_PLAN_ID, lessonPlanId);
+        if (cursor != null) {
+            predicate = Predicates.and(predicate, Predicates.greaterThan("__key", Cursors.decode(cursor)));
+        }
+        final List<Long> ids = new ArrayList<>(
+                cache.keySet(Predicates.pagingPredicate(predicate, new KeyOrder(), limit + 1)));
+        final List<QuizSummary> quizzes = ids
                 .stream()
-                .filter(quiz -> Objects.equals(quiz.getLessonPlanId(), lessonPlanId))
+                .limit(limit)
+                .map(id -> {
+                    final QuizSummary summary = new QuizSummary();
+                    summary.setId(id);
+                    summary.setLessonPlanId(lessonPlanId);
+                    return summary;
+                })
                 .collect(Collectors.toList());
+        final QuizSummaryPage page = new QuizSummaryPage();
+        page.setQuizzes(quizzes);
+        if (ids.size() > quizzes.size() && !quizzes.isEmpty()) {
+            page.setNextCursor(Cursors.encode(quizzes.get(quizzes.size() - 1).getId()));
+        }
+        return page;
     }
 
     /**
@@ -82,24 +143,58 @@ public class QuizService {
         if (quiz == null) {
             return null;
         } else if (quiz.getId() == null) {
-            quiz.setId(assignId());
+            quiz.setId(idAllocator.nextId());
         }
         return cache.put(quiz.getId(), quiz);
     }
 
     /**
-     * Finds an ID to assign to an entity.
+     * Gets the question IDs of a quiz.
      *
-     * @return next ID value
+     * @param quizId quiz ID
+     * @return question IDs in order, empty when none were stored
      */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
-            }
+    public List<Long> getQuestionIds(final long quizId) {
+        final QuizQuestions questions = questionsCache.get(quizId);
+        if (questions == null || questions.getQuestionIds() == null) {
+            return Collections.emptyList();
         }
-        return max + 1;
+        return Arrays.stream(questions.getQuestionIds()).boxed().collect(Collectors.toList());
+    }
+
+    /**
+     * Saves the question IDs of a quiz.
+     *
+     * @param quizId quiz ID
+     * @param questionIds question IDs in order
+     */
+    public void saveQuestionIds(final long quizId, final List<Long> questionIds) {
+        final QuizQuestions questions = new QuizQuestions();
+        questions.setId(quizId);
+        questions.setQuestionIds(questionIds.stream().mapToLong(Long::longValue).toArray());
+        questionsCache.set(quizId, questions);
     }
 
+    /**
+     * Orders quiz entries by ID so that each member returns only the first page of its matches.
+     */
+    private static final class KeyOrder implements Comparator<Map.Entry<Long, Quiz>>, Serializable {
+
+        /**
+         * Serial version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Compares two quiz entries by ID.
+         *
+         * @param left entry
+         * @param right entry
+         * @return comparison of the IDs
+         */
+        @Override
+        public int compare(final Map.Entry<Long, Quiz> left, final Map.Entry<Long, Quiz> right) {
+            return left.getKey().compareTo(right.getKey());
+        }
+    }
 }
@@ -0,0 +1,204 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.service;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.starfireaviation.common.model.Answer;
+import com.starfireaviation.questions.model.QuizSession;
+import com.starfireaviation.questions.model.QuizSessionUpdate;
+import com.starfireaviation.questions.model.QuizSessionUpdate.Outcome;
+import com.starfireaviation.questions.processor.AddSessionQuestionProcessor;
+import com.starfireaviation.questions.processor.CompleteSessionProcessor;
+import com.starfireaviation.questions.processor.QuizSessionProcessor;
+import com.starfireaviation.questions.processor.RecordAnswerProcessor;
+import com.starfireaviation.questions.processor.RemoveSessionQuestionProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Runs quiz sessions.
+ *
+ * Sessions live in their own map keyed by session ID, so they are spread across partitions. Every change is an entry
+ * processor on the owning partition; sessions taken at the same time never wait on each other. Completing a session
+ * counts each of its answers once as a practice review for the session's user.
+ */
+@Slf4j
+@Service
+public class QuizSessionService {
+
+    /**
+     * QuizSession Cache.
+     */
+    private final IMap<Long, QuizSession> cache;
+
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
+
+    /**
+     * QuizService.
+     */
+    private final QuizService quizService;
+
+    /**
+     * AnswerService.
+     */
+    private final AnswerService answerService;
+
+    /**
+     * PracticeService.
+     */
+    private final PracticeService practiceService;
+
+    /**
+     * QuizSessionService.
+     *
+     * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
+     * @param quizzes QuizService
+     * @param answers AnswerService
+     * @param practice PracticeService
+     */
+    public QuizSessionService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                              final IdAllocatorFactory idAllocatorFactory,
+                              final QuizService quizzes,
+                              final AnswerService answers,
+                              final PracticeService practice) {
+        cache = hazelcastInstance.getMap("quizsessions");
+        idAllocator = idAllocatorFactory.forMap(cache);
+        quizService = quizzes;
+        answerService = answers;
+        practiceService = practice;
+    }
+
+    /**
+     * Gets a quiz session.
+     *
+     * @param id session ID
+     * @return QuizSession, null when not found
+     */
+    public QuizSession get(final long id) {
+        return cache.get(id);
+    }
+
+    /**
+     * Starts a session of a quiz, with the quiz's questions, none answered.
+     *
+     * @param quizId quiz ID
+     * @param userId ID of the user taking the quiz
+     * @return QuizSession, null when the quiz does not exist
+     */
+    public QuizSession start(final long quizId, final Long userId) {
+        if (quizService.get(quizId) == null) {
+            return null;
+        }
+        final List<Long> questionIds = quizService.getQuestionIds(quizId);
+        final QuizSession session = new QuizSession();
+        session.setId(idAllocator.nextId());
+        session.setQuizId(quizId);
+        session.setUserId(userId);
+        session.setQuestionIds(questionIds.stream().mapToLong(Long::longValue).toArray());
+        session.setAnswerIds(new long[questionIds.size()]);
+        session.setStartedAt(System.currentTimeMillis());
+        cache.set(session.getId(), session);
+        return session;
+    }
+
+    /**
+     * Records the answer to a question of a session.
+     *
+     * @param id session ID
+     * @param questionId question ID
+     * @param answerId answer ID, which must be one of the question's answers
+     * @return QuizSession, null when not found
+     */
+    public QuizSession answer(final long id, final long questionId, final long answerId) {
+        final boolean known = answerService
+                .findByQuestionId(questionId)
+                .stream()
+                .map(Answer::getId)
+                .anyMatch(answer -> Objects.equals(answer, answerId));
+        if (!known) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Answer " + answerId + " is not an answer to question " + questionId);
+        }
+        return update(id, new RecordAnswerProcessor(questionId, answerId));
+    }
+
+    /**
+     * Adds a question to a session.
+     *
+     * @param id session ID
+     * @param questionId question ID
+     * @return QuizSession, null when not found
+     */
+    public QuizSession addQuestion(final long id, final long questionId) {
+        return update(id, new AddSessionQuestionProcessor(questionId));
+    }
+
+    /**
+     * Removes a question from a session.
+     *
+     * @param id session ID
+     * @param questionId question ID
+     * @return QuizSession, null when not found
+     */
+    public QuizSession removeQuestion(final long id, final long questionId) {
+        return update(id, new RemoveSessionQuestionProcessor(questionId));
+    }
+
+    /**
+     * Completes a session and records its answers for practice.
+     *
+     * @param id session ID
+     * @return QuizSession, null when not found
+     */
+    public QuizSession complete(final long id) {
+        final QuizSession session = update(id, new CompleteSessionProcessor(System.currentTimeMillis()));
+        if (session != null && session.getUserId() != null) {
+            practiceService.recordSession(session);
+        }
+        return session;
+    }
+
+    /**
+     * Applies a change to a session on its partition.
+     *
+     * @param id session ID
+     * @param processor change
+     * @return QuizSession, null when not found
+     */
+    private QuizSession update(final long id, final QuizSessionProcessor processor) {
+        final QuizSessionUpdate update = cache.executeOnKey(id, processor);
+        if (update.getOutcome() == Outcome.COMPLETED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Quiz session " + id + " is already completed");
+        } else if (update.getOutcome() == Outcome.UNKNOWN_QUESTION) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Question is not part of quiz session " + id);
+        }
+        return update.getSession();
+    }
+
+}
@@ -32,13 +32,21 @@ public class RefService {
      */
     private final IMap<Long, Ref> cache;
 
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
+
     /**
      * RefService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
      */
-    public RefService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+    public RefService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                      final IdAllocatorFactory idAllocatorFactory) {
         cache = hazelcastInstance.getMap("refs");
+        idAllocator = idAllocatorFactory.forMap(cache);
     }
 
     /**
@@ -61,23 +69,8 @@ public class RefService {
         if (ref == null) {
             return null;
         } else if (ref.getRefId() == null) {
-            ref.setRefId(assignId());
+            ref.setRefId(idAllocator.nextId());
         }
         return cache.put(ref.getRefId(), ref);
     }
-
-    /**
-     * Finds an ID to assign to an entity.
-     *
-     * @return next ID value
-     */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
-            }
-        }
-        return max + 1;
-    }
 }
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.service;
+
+import com.hazelcast.cp.IAtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.LongSupplier;
+
+/**
+ * IdAllocator that leases blocks of IDs from a cluster-wide sequence.
+ *
+ * Each member reserves blockSize IDs with a single atomic increment and hands them out locally, so inserts cost one
+ * remote call per block. Two members never receive the same ID as long as the sequence lives in an enabled CP
+ * subsystem; in unsafe mode a network split can lease a block twice.
+ */
+@Slf4j
+public class SequenceIdAllocator implements IdAllocator {
+
+    /**
+     * Cluster-wide sequence holding the highest leased ID.
+     */
+    private final IAtomicLong sequence;
+
+    /**
+     * Highest ID present in the map or its store, which the sequence must start above.
+     */
+    private final LongSupplier highestId;
+
+    /**
+     * Number of IDs leased at a time.
+     */
+    private final long blockSize;
+
+    /**
+     * Whether the sequence has been raised above existing keys.
+     */
+    private boolean seeded;
+
+    /**
+     * Next ID to hand out.
+     */
+    private long next;
+
+    /**
+     * First ID past the current block.
+     */
+    private long limit;
+
+    /**
+     * SequenceIdAllocator.
+     *
+     * @param atomicLong sequence
+     * @param highest highest ID present in the entity map or its store
+     * @param size IDs leased at a time
+     */
+    public SequenceIdAllocator(final IAtomicLong atomicLong,
+                               final LongSupplier highest,
+                               final long size) {
+        sequence = atomicLong;
+        highestId = highest;
+        blockSize = Math.max(1, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long nextId() {
+        if (next >= limit) {
+            lease();
+        }
+        return next++;
+    }
+
+    /**
+     * Leases the next block of IDs.
+     */
+    private void lease() {
+        if (!seeded) {
+            seed();
+        }
+        final long end = sequence.addAndGet(blockSize);
+        next = end - blockSize + 1;
+        limit = end + 1;
+    }
+
+    /**
+     * Raises the sequence above any ID already present in the map or its store, so keys evicted from a size-bounded
+     * map are never reissued.
+     *
+     * Runs once per member, on the first insert.
+     */
+    private void seed() {
+        final long max = highestId.getAsLong();
+        long current = sequence.get();
+        while (current < max && !sequence.compareAndSet(current, max)) {
+            current = sequence.get();
+        }
+        seeded = true;
+        log.debug("Seeded ID sequence {} at {}", sequence.getName(), Math.max(current, max));
+    }
+
+}
@@ -32,13 +32,21 @@ public class SourceService {
      */
     private final IMap<Long, Source> cache;
 
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
+
     /**
      * SourceService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
      */
-    public SourceService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+    public SourceService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                         final IdAllocatorFactory idAllocatorFactory) {
         cache = hazelcastInstance.getMap("sources");
+        idAllocator = idAllocatorFactory.forMap(cache);
     }
 
     /**
@@ -61,23 +69,8 @@ public class SourceService {
         if (source == null) {
             return null;
         } else if (source.getId() == null) {
-            source.setId(assignId());
+            source.setId(idAllocator.nextId());
         }
         return cache.put(source.getId(), source);
     }
-
-    /**
-     * Finds an ID to assign to an entity.
-     *
-     * @return next ID value
-     */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
-            }
-        }
-        return max + 1;
-    }
 }
@@ -0,0 +1,173 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.sql.HazelcastSqlException;
+import com.hazelcast.sql.SqlExpectedResultType;
+import com.hazelcast.sql.SqlResult;
+import com.hazelcast.sql.SqlRow;
+import com.hazelcast.sql.SqlRowMetadata;
+import com.hazelcast.sql.SqlStatement;
+import com.starfireaviation.questions.config.ApplicationProperties;
+import com.starfireaviation.questions.model.SqlQuery;
+import com.starfireaviation.questions.persistence.EntityMaps;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.annotation.PostConstruct;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Runs read-only SQL queries over the entity maps.
+ *
+ * Each entity map is mapped under its own name, with a BIGINT "__key" and one column per model field, so filters on
+ * indexed fields are pushed down to the map indexes and queries run distributed across members.
+ */
+@Slf4j
+@Service
+public class SqlQueryService {
+
+    /**
+     * HazelcastInstance.
+     */
+    private final HazelcastInstance hazelcast;
+
+    /**
+     * ApplicationProperties.
+     */
+    private final ApplicationProperties properties;
+
+    /**
+     * ObjectMapper.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * SqlQueryService.
+     *
+     * @param hazelcastInstance HazelcastInstance
+     * @param applicationProperties ApplicationProperties
+     * @param mapper ObjectMapper
+     */
+    public SqlQueryService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                           final ApplicationProperties applicationProperties,
+                           final ObjectMapper mapper) {
+        hazelcast = hazelcastInstance;
+        properties = applicationProperties;
+        objectMapper = mapper;
+    }
+
+    /**
+     * Creates a SQL mapping for every entity map.
+     */
+    @PostConstruct
+    public void createMappings() {
+        if (!properties.getSql().isEnabled()) {
+            return;
+        }
+        EntityMaps.TYPES.forEach((mapName, type) -> hazelcast.getSql().execute(String.format(
+                "CREATE OR REPLACE MAPPING \"%s\" TYPE IMap OPTIONS (%s, 'valueFormat'='java', 'valueJavaClass'='%s')",
+                mapName, keyOptions(mapName), type.getName())).close());
+        log.info("Created SQL mappings for {} maps", EntityMaps.TYPES.size());
+    }
+
+    /**
+     * Gets the key format options of a map's mapping. The ID and question ID of a QuestionScopedKey resolve to the
+     * entry's own columns of the same name.
+     *
+     * @param mapName map name
+     * @return key format options
+     */
+    private static String keyOptions(final String mapName) {
+        if (EntityMaps.keyType(mapName) == Long.class) {
+            return "'keyFormat'='bigint'";
+        }
+        return String.format("'keyFormat'='java', 'keyJavaClass'='%s'", EntityMaps.keyType(mapName).getName());
+    }
+
+    /**
+     * Starts a read-only query. Statements that do not return rows, such as DML and DDL, are rejected.
+     *
+     * @param query SqlQuery
+     * @return SqlResult, to be closed by the caller
+     */
+    public SqlResult execute(final SqlQuery query) {
+        if (!properties.getSql().isEnabled()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "SQL is disabled");
+        }
+        if (query == null || query.getSql() == null || query.getSql().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "SQL is required");
+        }
+        final SqlStatement statement = new SqlStatement(query.getSql())
+                .setParameters(query.getParameters())
+                .setExpectedResultType(SqlExpectedResultType.ROWS)
+                .setTimeoutMillis(properties.getSql().getTimeoutMillis());
+        try {
+            return hazelcast.getSql().execute(statement);
+        } catch (HazelcastSqlException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the rows of a query as newline-delimited JSON objects keyed by column name, stopping at the configured
+     * maximum number of rows. The result is closed once written.
+     *
+     * @param result SqlResult
+     * @param outputStream OutputStream
+     * @throws IOException when the rows cannot be written
+     */
+    public void writeRows(final SqlResult result, final OutputStream outputStream) throws IOException {
+        try (result) {
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            final Iterator<SqlRow> rows = result.iterator();
+            for (int count = 0; count < properties.getSql().getMaxRows() && rows.hasNext(); count++) {
+                writer.write(objectMapper.writeValueAsString(toMap(rows.next())));
+                writer.write('\n');
+            }
+            writer.flush();
+        }
+    }
+
+    /**
+     * Converts a row to column values by column name.
+     *
+     * @param row SqlRow
+     * @return column values in column order
+     */
+    public static Map<String, Object> toMap(final SqlRow row) {
+        final SqlRowMetadata metadata = row.getMetadata();
+        final Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < metadata.getColumnCount(); i++) {
+            values.put(metadata.getColumn(i).getName(), row.getObject(i));
+        }
+        return values;
+    }
+}
@@ -18,13 +18,15 @@ package com.starfireaviation.questions.service;
 
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
 import com.starfireaviation.common.model.SubjectMatterCode;
+import com.starfireaviation.questions.index.NormalizedCodeExtractor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -35,13 +37,21 @@ public class SubjectMatterCodeService {
      */
     private final IMap<Long, SubjectMatterCode> cache;
 
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
+
     /**
      * SubjectMatterCodeService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
      */
-    public SubjectMatterCodeService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+    public SubjectMatterCodeService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                                    final IdAllocatorFactory idAllocatorFactory) {
         cache = hazelcastInstance.getMap("subjectmattercodes");
+        idAllocator = idAllocatorFactory.forMap(cache);
     }
 
     /**
@@ -51,11 +61,11 @@ public class SubjectMatterCodeService {
      * @return SubjectMatterCode
      */
     public List<SubjectMatterCode> findByCode(final String lscCode) {
-        return cache
-                .values()
-                .stream()
-                .filter(subjectMatterCode -> lscCode.equalsIgnoreCase(subjectMatterCode.getCode()))
-                .collect(Collectors.toList());
+        if (lscCode == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(cache.values(
+                Predicates.equal(NormalizedCodeExtractor.ATTRIBUTE, NormalizedCodeExtractor.normalize(lscCode))));
     }
 
     /**
@@ -78,23 +88,8 @@ public class SubjectMatterCodeService {
         if (subjectMatterCode == null) {
             return null;
         } else if (subjectMatterCode.getId() == null) {
-            subjectMatterCode.setId(assignId());
+            subjectMatterCode.setId(idAllocator.nextId());
         }
         return cache.put(subjectMatterCode.getId(), subjectMatterCode);
     }
-
-    /**
-     * Finds an ID to assign to an entity.
-     *
-     * @return next ID value
-     */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
-            }
-        }
-        return max + 1;
-    }
 }
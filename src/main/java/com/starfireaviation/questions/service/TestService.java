@@ -32,13 +32,21 @@ public class TestService {
      */
     private final IMap<Long, Test> cache;
 
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
+
     /**
      * TestService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
      */
-    public TestService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+    public TestService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                       final IdAllocatorFactory idAllocatorFactory) {
         cache = hazelcastInstance.getMap("tests");
+        idAllocator = idAllocatorFactory.forMap(cache);
     }
 
     /**
@@ -61,23 +69,8 @@ public class TestService {
         if (test == null) {
             return null;
         } else if (test.getTestId() == null) {
-            test.setTestId(assignId());
+            test.setTestId(idAllocator.nextId());
         }
         return cache.put(test.getTestId(), test);
     }
-
-    /**
-     * Finds an ID to assign to an entity.
-     *
-     * @return next ID value
-     */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
-            }
-        }
-        return max + 1;
-    }
 }
@@ -32,13 +32,21 @@ public class TextConstService {
      */
     private final IMap<Long, TextConst> cache;
 
+    /**
+     * ID allocator.
+     */
+    private final IdAllocator idAllocator;
+
     /**
      * TextConstService.
      *
      * @param hazelcastInstance HazelcastInstance
+     * @param idAllocatorFactory IdAllocatorFactory
      */
-    public TextConstService(@Qualifier("questions") final HazelcastInstance hazelcastInstance) {
+    public TextConstService(@Qualifier("questions") final HazelcastInstance hazelcastInstance,
+                            final IdAllocatorFactory idAllocatorFactory) {
         cache = hazelcastInstance.getMap("textconst");
+        idAllocator = idAllocatorFactory.forMap(cache);
     }
 
     /**
@@ -61,23 +69,8 @@ public class TextConstService {
         if (textConst == null) {
             return null;
         } else if (textConst.getId() == null) {
-            textConst.setId(assignId());
+            textConst.setId(idAllocator.nextId());
         }
         return cache.put(textConst.getId(), textConst);
     }
-
-    /**
-     * Finds an ID to assign to an entity.
-     *
-     * @return next ID value
-     */
-    private Long assignId() {
-        Long max = Long.MIN_VALUE;
-        for (final Long id : cache.keySet()) {
-            if (id > max) {
-                max = id;
-            }
-        }
-        return max + 1;
-    }
 }
@@ -0,0 +1,231 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.service;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.starfireaviation.questions.config.ApplicationProperties;
+import com.starfireaviation.questions.index.RebuildableIndex;
+import com.starfireaviation.questions.model.QuestionSearchCriteria;
+import com.starfireaviation.questions.persistence.EntityMaps;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Brings a freshly started member to full speed before it reports ready.
+ *
+ * Loads every entity map in parallel, rebuilds the in-memory indexes from the loaded data, then replays hot
+ * endpoints against this instance so their code paths are compiled before real traffic arrives.
+ */
+@Slf4j
+@Service
+public class WarmUpService {
+
+    /**
+     * Whether warm-up has finished.
+     */
+    private final AtomicBoolean ready = new AtomicBoolean();
+
+    /**
+     * Whether warm-up has failed on every attempt.
+     */
+    private final AtomicBoolean failed = new AtomicBoolean();
+
+    /**
+     * HazelcastInstance.
+     */
+    @Autowired
+    @Qualifier("questions")
+    private HazelcastInstance hazelcastInstance;
+
+    /**
+     * Executor for parallel map loads and index rebuilds.
+     */
+    @Autowired
+    @Qualifier("fanOutExecutor")
+    private ExecutorService executor;
+
+    /**
+     * Indexes to rebuild.
+     */
+    @Autowired
+    private List<RebuildableIndex> indexes;
+
+    /**
+     * QuestionSearchService.
+     */
+    @Autowired
+    private QuestionSearchService questionSearchService;
+
+    /**
+     * RestTemplateBuilder.
+     */
+    @Autowired
+    private RestTemplateBuilder restTemplateBuilder;
+
+    /**
+     * ApplicationProperties.
+     */
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    /**
+     * Starts warm-up in the background once the application, including its web server, is up.
+     *
+     * @param event ApplicationReadyEvent
+     */
+    @EventListener
+    public void onApplicationReady(final ApplicationReadyEvent event) {
+        int port = 0;
+        if (event.getApplicationContext() instanceof WebServerApplicationContext) {
+            port = ((WebServerApplicationContext) event.getApplicationContext()).getWebServer().getPort();
+        }
+        final int serverPort = port;
+        final Thread thread = new Thread(() -> warmUp(serverPort), "warm-up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Whether warm-up has finished and this member may receive traffic.
+     *
+     * @return ready
+     */
+    public boolean isReady() {
+        return ready.get();
+    }
+
+    /**
+     * Whether warm-up has failed on every attempt, leaving this member unable to ever become ready.
+     *
+     * @return failed
+     */
+    public boolean isFailed() {
+        return failed.get();
+    }
+
+    /**
+     * Runs all warm-up phases. Loading data and building indexes is retried with a doubling delay; when every
+     * attempt fails the member is marked failed so that liveness reports it and it gets replaced.
+     *
+     * @param port local web server port, 0 when there is none
+     */
+    private void warmUp(final int port) {
+        final long start = System.currentTimeMillis();
+        if (!loadAndIndex()) {
+            failed.set(true);
+            return;
+        }
+        if (port > 0) {
+            exerciseEndpoints(port);
+        }
+        ready.set(true);
+        log.info("Warm-up finished in {} ms", System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Loads every entity map and rebuilds the indexes, retrying failures.
+     *
+     * @return whether an attempt succeeded
+     */
+    private boolean loadAndIndex() {
+        final int attempts = Math.max(1, applicationProperties.getWarmUpAttempts());
+        long delay = applicationProperties.getWarmUpRetryMillis();
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            try {
+                runAll(EntityMaps.TYPES.keySet().stream().map(mapName -> () -> loadMap(mapName)));
+                runAll(indexes.stream().map(index -> index::rebuild));
+                return true;
+            } catch (RuntimeException e) {
+                if (attempt == attempts) {
+                    log.error("Warm-up failed after {} attempts, reporting not live", attempts, e);
+                    return false;
+                }
+                log.warn("Warm-up attempt {} of {} failed, retrying in {} ms", attempt, attempts, delay, e);
+            }
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            delay *= 2;
+        }
+        return false;
+    }
+
+    /**
+     * Loads a map. The first operation on a map waits for its MapLoader to load every partition.
+     *
+     * @param mapName map name
+     */
+    private void loadMap(final String mapName) {
+        final int size = hazelcastInstance.getMap(mapName).size();
+        log.info("Loaded {} entries into {}", size, mapName);
+    }
+
+    /**
+     * Runs tasks on the executor and waits for all of them.
+     *
+     * @param tasks tasks
+     */
+    private void runAll(final Stream<Runnable> tasks) {
+        final List<CompletableFuture<Void>> futures = tasks
+                .map(task -> CompletableFuture.runAsync(task, executor))
+                .collect(Collectors.toList());
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+
+    /**
+     * Replays hot question endpoints against this instance.
+     *
+     * @param port local web server port
+     */
+    private void exerciseEndpoints(final int port) {
+        final RestTemplate restTemplate = restTemplateBuilder
+                .rootUri("http://localhost:" + port + "/api/questions")
+                .setConnectTimeout(Duration.ofMillis(applicationProperties.getConnectTimeout()))
+                .setReadTimeout(Duration.ofMillis(applicationProperties.getReadTimeout()))
+                .build();
+        final List<Long> ids = questionSearchService.searchIds(new QuestionSearchCriteria());
+        try {
+            for (int i = 0; i < applicationProperties.getWarmUpRequests(); i++) {
+                restTemplate.getForObject("/page", String.class);
+                if (!ids.isEmpty()) {
+                    restTemplate.getForObject("/{id}/bundle", String.class, ids.get(i % ids.size()));
+                }
+            }
+        } catch (RestClientException e) {
+            log.warn("Endpoint warm-up stopped early: {}", e.getMessage());
+        }
+    }
+}
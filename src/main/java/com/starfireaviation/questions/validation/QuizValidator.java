@@ -18,7 +18,12 @@ package com.starfireaviation.questions.validation;
 
 import com.starfireaviation.common.model.Quiz;
 import com.starfireaviation.common.exception.InvalidPayloadException;
+import com.starfireaviation.questions.config.ApplicationProperties;
+import com.starfireaviation.questions.model.AnswerSheet;
+import com.starfireaviation.questions.model.QuizGenerationRequest;
+import com.starfireaviation.questions.model.QuizQuota;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
@@ -28,6 +33,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class QuizValidator {
 
+    /**
+     * ApplicationProperties.
+     */
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
     /**
      * Quiz Validation.
      *
@@ -38,6 +49,57 @@ public class QuizValidator {
         empty(quiz);
     }
 
+    /**
+     * Quiz generation request Validation.
+     *
+     * @param request QuizGenerationRequest
+     * @throws InvalidPayloadException when the request is invalid
+     */
+    public void validate(final QuizGenerationRequest request) throws InvalidPayloadException {
+        if (request == null || request.getCriteria() == null || request.getQuotas() == null) {
+            invalid("No quiz generation information was provided");
+        }
+        if (request.getCount() < 1 || request.getCount() > applicationProperties.getMaxQuizSize()) {
+            invalid("Quiz size must be between 1 and " + applicationProperties.getMaxQuizSize());
+        }
+        int quotaTotal = 0;
+        for (final QuizQuota quota : request.getQuotas()) {
+            if (quota == null || quota.getCriteria() == null || quota.getCount() < 0) {
+                invalid("Quiz quotas must have criteria and a count of zero or more");
+            }
+            quotaTotal += quota.getCount();
+        }
+        if (quotaTotal > request.getCount()) {
+            invalid("Quiz quotas add up to " + quotaTotal + " questions, more than the quiz size");
+        }
+    }
+
+    /**
+     * Answer sheet Validation.
+     *
+     * @param sheet AnswerSheet
+     * @throws InvalidPayloadException when the sheet is invalid
+     */
+    public void validate(final AnswerSheet sheet) throws InvalidPayloadException {
+        if (sheet == null || sheet.getQuestionIds() == null || sheet.getAnswerIds() == null) {
+            invalid("No answer sheet was provided");
+        }
+        if (sheet.getQuestionIds().length != sheet.getAnswerIds().length) {
+            invalid("Answer sheet must have one answer ID per question ID");
+        }
+    }
+
+    /**
+     * Logs and rejects an invalid payload.
+     *
+     * @param msg reason
+     * @throws InvalidPayloadException always
+     */
+    private static void invalid(final String msg) throws InvalidPayloadException {
+        log.warn(msg);
+        throw new InvalidPayloadException(msg);
+    }
+
     /**
      * Ensures quiz object is not null.
      *
@@ -0,0 +1,194 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.config;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.starfireaviation.common.model.ACS;
+import com.starfireaviation.common.model.Answer;
+import com.starfireaviation.common.model.Question;
+import com.starfireaviation.questions.model.UserItemStats;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Round-trips entities through a member configured by ServiceConfig, which stores them in compact format, and
+ * compares their stored size against a member that falls back to default Java serialization.
+ *
+ * Entries live in BINARY maps, so every get deserializes and every entry cost is the serialized size plus the same
+ * per-entry overhead on both members.
+ */
+@Slf4j
+class SerializationTest {
+
+    private static final String MAP = "serialization";
+
+    private static final long KEY = 1L;
+
+    private static final int WARM_UP = 20_000;
+
+    private static final int ITERATIONS = 100_000;
+
+    private static HazelcastInstance compactInstance;
+
+    private static HazelcastInstance javaInstance;
+
+    @BeforeAll
+    static void start() {
+        final ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getCluster().setName("questions-compact-" + System.nanoTime());
+        final Config compactConfig = ServiceConfig.hazelcastConfig(applicationProperties);
+        compactConfig.addMapConfig(binaryMap());
+        compactInstance = Hazelcast.newHazelcastInstance(compactConfig);
+
+        final Config javaConfig = new Config();
+        javaConfig.setClusterName("questions-java-" + System.nanoTime());
+        javaConfig.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+        javaConfig.getJetConfig().setEnabled(false);
+        javaConfig.addMapConfig(binaryMap());
+        javaInstance = Hazelcast.newHazelcastInstance(javaConfig);
+    }
+
+    @AfterAll
+    static void shutdown() {
+        compactInstance.shutdown();
+        javaInstance.shutdown();
+    }
+
+    @Test
+    void question() {
+        final Question question = newQuestion();
+        assertRoundTrip(question);
+        assertSmallerThanJava(question);
+    }
+
+    @Test
+    void answer() {
+        final Answer answer = newAnswer();
+        assertRoundTrip(answer);
+        assertSmallerThanJava(answer);
+    }
+
+    @Test
+    void acs() {
+        final ACS acs = newAcs();
+        assertRoundTrip(acs);
+        assertSmallerThanJava(acs);
+    }
+
+    @Test
+    void userItemStats() {
+        final UserItemStats stats = new UserItemStats();
+        stats.setId(42L);
+        stats.setQuestionIds(new long[] {3L, 7L});
+        stats.setCounters(new long[] {0x0001_0001_00FA_0001L, 0x0002_0000_0082_0000L});
+        stats.setReviewedAt(new int[] {100, 200});
+        stats.setDueAt(new int[] {1540, 210});
+        assertRoundTrip(stats);
+    }
+
+    /**
+     * Logs the round-trip cost of compact against Java serialization. Excluded from the default build; run with
+     * {@code mvn test -Pbenchmark}.
+     */
+    @Test
+    @Tag("benchmark")
+    void roundTripCost() {
+        for (final Object value : List.of(newQuestion(), newAnswer(), newAcs())) {
+            log.info("{}: java {} ns/round trip; compact {} ns/round trip", value.getClass().getSimpleName(),
+                    String.format("%.0f", roundTripNanos(javaInstance, value)),
+                    String.format("%.0f", roundTripNanos(compactInstance, value)));
+        }
+    }
+
+    private static void assertRoundTrip(final Object value) {
+        final IMap<Long, Object> map = compactInstance.getMap(MAP);
+        map.set(KEY, value);
+        assertThat(map.get(KEY))
+                .isNotSameAs(value)
+                .usingRecursiveComparison()
+                .isEqualTo(value);
+    }
+
+    private static void assertSmallerThanJava(final Object value) {
+        final long compactCost = entryCost(compactInstance, value);
+        final long javaCost = entryCost(javaInstance, value);
+        log.info("{}: java entry {} bytes; compact entry {} bytes", value.getClass().getSimpleName(), javaCost,
+                compactCost);
+        assertThat(compactCost).isLessThan(javaCost);
+    }
+
+    private static long entryCost(final HazelcastInstance instance, final Object value) {
+        final IMap<Long, Object> map = instance.getMap(MAP);
+        map.set(KEY, value);
+        return map.getEntryView(KEY).getCost();
+    }
+
+    private static double roundTripNanos(final HazelcastInstance instance, final Object value) {
+        final IMap<Long, Object> map = instance.getMap(MAP);
+        for (int i = 0; i < WARM_UP; i++) {
+            map.set(KEY, value);
+            map.get(KEY);
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            map.set(KEY, value);
+            map.get(KEY);
+        }
+        return (double) (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private static MapConfig binaryMap() {
+        return new MapConfig(MAP).setInMemoryFormat(InMemoryFormat.BINARY);
+    }
+
+    private static Question newQuestion() {
+        final Question question = new Question();
+        question.setId(12345L);
+        question.setChapterId(17L);
+        question.setLearningStatementCode("PLT012");
+        return question;
+    }
+
+    private static Answer newAnswer() {
+        final Answer answer = new Answer();
+        answer.setId(54321L);
+        answer.setQuestionId(12345L);
+        answer.setChoice("A");
+        return answer;
+    }
+
+    private static ACS newAcs() {
+        final ACS acs = new ACS();
+        acs.setId(77L);
+        acs.setGroupId(3L);
+        acs.setCode("PA.I.A.K1");
+        return acs;
+    }
+
+}
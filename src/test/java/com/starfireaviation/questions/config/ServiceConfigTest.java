@@ -0,0 +1,94 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.config;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServiceConfigTest {
+
+    private static final int PORT = 5901;
+
+    private final List<HazelcastInstance> members = new ArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        members.forEach(HazelcastInstance::shutdown);
+    }
+
+    @Test
+    void tcpIpMembersFormOneGrid() {
+        final ApplicationProperties applicationProperties = tcpIpProperties();
+        members.add(Hazelcast.newHazelcastInstance(ServiceConfig.hazelcastConfig(applicationProperties)));
+        members.add(Hazelcast.newHazelcastInstance(ServiceConfig.hazelcastConfig(applicationProperties)));
+
+        assertThat(members.get(0).getCluster().getMembers()).hasSize(2);
+        assertThat(members.get(1).getCluster().getMembers()).hasSize(2);
+
+        final IMap<Long, String> written = members.get(0).getMap("groups");
+        for (long key = 0; key < 100; key++) {
+            written.put(key, "group" + key);
+        }
+        final IMap<Long, String> read = members.get(1).getMap("groups");
+        assertThat(read.size()).isEqualTo(100);
+        assertThat(read.get(42L)).isEqualTo("group42");
+        assertThat(read.getLocalMapStats().getOwnedEntryCount()).isBetween(1L, 99L);
+    }
+
+    @Test
+    void evictsOnlyMapsWithStore() {
+        final MapProperties questions = new MapProperties();
+        questions.setEvictionPolicy(EvictionPolicy.LRU);
+        questions.setMaxSize(100);
+        final ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.setMaps(Map.of("questions", questions));
+
+        final Config withoutStore = ServiceConfig.hazelcastConfig(applicationProperties);
+        assertThat(withoutStore.getMapConfig("questions").getEvictionConfig().getEvictionPolicy())
+                .isEqualTo(EvictionPolicy.NONE);
+
+        applicationProperties.getPersistence().setEnabled(true);
+        applicationProperties.getPersistence().setDataDir("target/questions-data");
+        applicationProperties.getPersistence().setWriteBatchSize(1);
+        final Config withStore = ServiceConfig.hazelcastConfig(applicationProperties);
+        assertThat(withStore.getMapConfig("questions").getEvictionConfig().getEvictionPolicy())
+                .isEqualTo(EvictionPolicy.LRU);
+    }
+
+    private static ApplicationProperties tcpIpProperties() {
+        final ClusterProperties cluster = new ClusterProperties();
+        cluster.setName("questions-test-" + System.nanoTime());
+        cluster.setDiscovery(DiscoveryMode.TCP_IP);
+        cluster.setPort(PORT);
+        cluster.setMembers(List.of("127.0.0.1:" + PORT, "127.0.0.1:" + (PORT + 1)));
+        final ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.setCluster(cluster);
+        return applicationProperties;
+    }
+
+}
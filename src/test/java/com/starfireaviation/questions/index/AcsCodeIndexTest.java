@@ -0,0 +1,92 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.index;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.starfireaviation.common.model.ACS;
+import com.starfireaviation.questions.QuestionsApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Range scans of the ACS code index over a small code tree.
+ */
+@SpringBootTest(classes = QuestionsApplication.class)
+class AcsCodeIndexTest {
+
+    private static final long AREA = 920_001L;
+
+    private static final long TASK = 920_002L;
+
+    private static final long ELEMENT = 920_003L;
+
+    private static final long SIBLING_AREA = 920_004L;
+
+    private static final long OTHER_TASK = 920_005L;
+
+    @Autowired
+    @Qualifier("questions")
+    private HazelcastInstance hazelcast;
+
+    @Autowired
+    private AcsCodeIndex acsCodeIndex;
+
+    @Test
+    void scansSubtree() throws InterruptedException {
+        final IMap<Long, ACS> acs = hazelcast.getMap("acs");
+        acs.put(AREA, acs(AREA, "ZX.I"));
+        acs.put(TASK, acs(TASK, "zx.i.a"));
+        acs.put(ELEMENT, acs(ELEMENT, "ZX.I.A.K1"));
+        acs.put(SIBLING_AREA, acs(SIBLING_AREA, "ZX.II"));
+        acs.put(OTHER_TASK, acs(OTHER_TASK, "ZX.I.B"));
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (acsCodeIndex.subtree("ZX").size() < 5 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(acsCodeIndex.subtree("ZX")).containsExactlyInAnyOrder(AREA, TASK, ELEMENT, SIBLING_AREA, OTHER_TASK);
+        assertThat(acsCodeIndex.subtree("zx.i.")).containsExactlyInAnyOrder(AREA, TASK, ELEMENT, OTHER_TASK);
+        assertThat(acsCodeIndex.subtree("ZX.I.A")).containsExactlyInAnyOrder(TASK, ELEMENT);
+        assertThat(acsCodeIndex.subtree("ZX.I.A.K1")).containsExactly(ELEMENT);
+        assertThat(acsCodeIndex.subtree("ZX.I.C")).isEmpty();
+        assertThat(acsCodeIndex.subtree(null)).contains(AREA, TASK, ELEMENT, SIBLING_AREA, OTHER_TASK);
+
+        acs.remove(ELEMENT);
+        acs.put(OTHER_TASK, acs(OTHER_TASK, "ZX.II.A"));
+        final long removedBy = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (acsCodeIndex.subtree("ZX.I").size() > 2 && System.nanoTime() < removedBy) {
+            Thread.sleep(10);
+        }
+        assertThat(acsCodeIndex.subtree("ZX.I")).containsExactlyInAnyOrder(AREA, TASK);
+        assertThat(acsCodeIndex.subtree("ZX.II")).containsExactlyInAnyOrder(SIBLING_AREA, OTHER_TASK);
+    }
+
+    private static ACS acs(final long id, final String code) {
+        final ACS acs = new ACS();
+        acs.setId(id);
+        acs.setCode(code);
+        return acs;
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.index;
+
+import com.starfireaviation.common.model.Answer;
+import com.starfireaviation.questions.QuestionsApplication;
+import com.starfireaviation.questions.model.AnswerSheet;
+import com.starfireaviation.questions.model.QuizGrade;
+import com.starfireaviation.questions.service.AnswerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Grades a sheet against an answer marked correct through AnswerService, which reaches the key through its entry
+ * listener.
+ */
+@SpringBootTest(classes = QuestionsApplication.class)
+class AnswerKeyIndexTest {
+
+    private static final long QUESTION = 900_001L;
+
+    private static final long UNKEYED_QUESTION = 900_002L;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Autowired
+    private AnswerKeyIndex answerKeyIndex;
+
+    @Test
+    void gradesAgainstCorrectAnswer() throws InterruptedException {
+        final Answer right = answer(QUESTION);
+        final Answer wrong = answer(QUESTION);
+        answerService.markCorrect(QUESTION, right.getId());
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (answerKeyIndex.getCorrectAnswerId(QUESTION) == AnswerKeyIndex.NO_ANSWER
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(grade(new long[] {QUESTION, UNKEYED_QUESTION}, new long[] {right.getId(), 1L}))
+                .satisfies(grade -> {
+                    assertThat(grade.getTotal()).isEqualTo(1);
+                    assertThat(grade.getCorrect()).isEqualTo(1);
+                    assertThat(grade.getIncorrectQuestionIds()).isEmpty();
+                    assertThat(grade.getUngradedQuestionIds()).containsExactly(UNKEYED_QUESTION);
+                });
+        assertThat(grade(new long[] {QUESTION}, new long[] {wrong.getId()}).getIncorrectQuestionIds())
+                .containsExactly(QUESTION);
+    }
+
+    private Answer answer(final long questionId) {
+        final Answer answer = new Answer();
+        answer.setQuestionId(questionId);
+        answerService.save(answer);
+        return answer;
+    }
+
+    private QuizGrade grade(final long[] questionIds, final long[] answerIds) {
+        final AnswerSheet sheet = new AnswerSheet();
+        sheet.setQuestionIds(questionIds);
+        sheet.setAnswerIds(answerIds);
+        return answerKeyIndex.grade(sheet);
+    }
+
+}
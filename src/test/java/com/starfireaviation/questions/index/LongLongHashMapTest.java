@@ -0,0 +1,60 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks LongLongHashMap against java.util.HashMap under random puts and removes over a small key range, so probe
+ * runs collide, wrap around and are closed up by removals.
+ */
+class LongLongHashMapTest {
+
+    private static final long MISSING = -1L;
+
+    @Test
+    void matchesHashMap() {
+        final Random random = new Random(42);
+        final LongLongHashMap map = new LongLongHashMap();
+        final Map<Long, Long> expected = new HashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            final long key = random.nextInt(2_000) - 10;
+            if (random.nextInt(3) == 0) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                final long value = random.nextLong();
+                map.put(key, value);
+                expected.put(key, value);
+            }
+        }
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = -10; key < 1_990; key++) {
+            assertThat(map.get(key, MISSING)).isEqualTo(expected.getOrDefault(key, MISSING));
+        }
+        map.clear();
+        assertThat(map.size()).isZero();
+        assertThat(map.get(5, MISSING)).isEqualTo(MISSING);
+    }
+
+}
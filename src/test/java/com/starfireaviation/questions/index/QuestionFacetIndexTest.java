@@ -0,0 +1,120 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.index;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.starfireaviation.common.model.Question;
+import com.starfireaviation.common.model.QuestionACS;
+import com.starfireaviation.questions.QuestionsApplication;
+import com.starfireaviation.questions.model.QuestionScopedKey;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Follows question and question ACS changes through the facet index entry listeners.
+ */
+@SpringBootTest(classes = QuestionsApplication.class)
+class QuestionFacetIndexTest {
+
+    private static final long QUESTION = 910_001L;
+
+    private static final long CHAPTER = 910_101L;
+
+    private static final long OTHER_CHAPTER = 910_102L;
+
+    private static final long ACS = 910_201L;
+
+    private static final long LINK = 910_301L;
+
+    @Autowired
+    @Qualifier("questions")
+    private HazelcastInstance hazelcast;
+
+    @Autowired
+    private QuestionFacetIndex facetIndex;
+
+    @Test
+    void followsQuestionChanges() throws InterruptedException {
+        final IMap<Long, Question> questions = hazelcast.getMap("questions");
+
+        questions.put(QUESTION, question(CHAPTER, "PLT910"));
+        await(() -> facetIndex.byChapters(List.of(CHAPTER)).contains(QUESTION));
+        assertThat(facetIndex.all().contains(QUESTION)).isTrue();
+        assertThat(facetIndex.byLearningStatementCode("PLT910").contains(QUESTION)).isTrue();
+
+        questions.put(QUESTION, question(OTHER_CHAPTER, "PLT911"));
+        await(() -> facetIndex.byChapters(List.of(OTHER_CHAPTER)).contains(QUESTION));
+        assertThat(facetIndex.byChapters(List.of(CHAPTER)).contains(QUESTION)).isFalse();
+        assertThat(facetIndex.byLearningStatementCode("PLT910").contains(QUESTION)).isFalse();
+        assertThat(facetIndex.byLearningStatementCode("PLT911").contains(QUESTION)).isTrue();
+
+        questions.remove(QUESTION);
+        await(() -> !facetIndex.all().contains(QUESTION));
+        assertThat(facetIndex.byChapters(List.of(OTHER_CHAPTER)).contains(QUESTION)).isFalse();
+        assertThat(facetIndex.byLearningStatementCode("PLT911").contains(QUESTION)).isFalse();
+    }
+
+    @Test
+    void followsQuestionACSChanges() throws InterruptedException {
+        final IMap<QuestionScopedKey, QuestionACS> links = hazelcast.getMap("questionacs");
+        final QuestionScopedKey key = new QuestionScopedKey(LINK, QUESTION);
+
+        links.put(key, link(ACS));
+        await(() -> facetIndex.byAcs(List.of(ACS)).contains(QUESTION));
+
+        links.put(key, link(ACS + 1));
+        await(() -> facetIndex.byAcs(List.of(ACS + 1)).contains(QUESTION));
+        assertThat(facetIndex.byAcs(List.of(ACS)).contains(QUESTION)).isFalse();
+
+        links.remove(key);
+        await(() -> !facetIndex.byAcs(List.of(ACS + 1)).contains(QUESTION));
+    }
+
+    private static Question question(final long chapterId, final String learningStatementCode) {
+        final Question question = new Question();
+        question.setId(QUESTION);
+        question.setChapterId(chapterId);
+        question.setLearningStatementCode(learningStatementCode);
+        return question;
+    }
+
+    private static QuestionACS link(final long acsId) {
+        final QuestionACS link = new QuestionACS();
+        link.setId(LINK);
+        link.setQuestionId(QUESTION);
+        link.setAcsId(acsId);
+        return link;
+    }
+
+    private static void await(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+}
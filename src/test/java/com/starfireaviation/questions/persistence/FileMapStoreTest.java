@@ -0,0 +1,56 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.persistence;
+
+import com.hazelcast.map.MapLoader;
+import com.starfireaviation.common.model.Answer;
+import com.starfireaviation.questions.model.QuestionScopedKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that entries of a question scoped map stored under their plain ID, before keys carried the question ID, are
+ * renamed to the id@questionId form and load under the new key.
+ */
+class FileMapStoreTest {
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void renamesPlainIdFiles() throws IOException {
+        final Path answers = Files.createDirectories(dataDir.resolve("answers"));
+        Files.writeString(answers.resolve("5.json"), "{\"id\":5,\"questionId\":9,\"choice\":\"B\"}");
+
+        final MapLoader<Object, Object> store = new FileMapStoreFactory(dataDir).newMapStore("answers", null);
+        final QuestionScopedKey key = new QuestionScopedKey(5L, 9L);
+
+        assertThat(store.loadAllKeys()).containsExactly(key);
+        assertThat(answers.resolve("5.json")).doesNotExist();
+        assertThat(answers.resolve("5@9.json")).exists();
+        final Answer answer = (Answer) store.load(key);
+        assertThat(answer.getChoice()).isEqualTo("B");
+        assertThat(answer.getQuestionId()).isEqualTo(9L);
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.processor;
+
+import com.starfireaviation.questions.model.PracticeItem;
+import com.starfireaviation.questions.model.UserItemStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Walks one question through SM-2: intervals of one day, six days, then the previous interval times the ease factor,
+ * with the ease factor raised by correct answers, lowered by wrong ones down to 1.3, and the interval reset after a
+ * wrong answer.
+ */
+class RecordReviewProcessorTest {
+
+    private static final int RELEARN_MINUTES = 10;
+
+    private static final long DAY = TimeUnit.DAYS.toMinutes(1);
+
+    private static final int START = 29_000_000;
+
+    private final Map.Entry<Long, UserItemStats> entry = new SimpleEntry<>(7L, null);
+
+    @Test
+    void schedulesWithSm2() {
+        PracticeItem item = review(42L, true, START);
+        assertThat(item.getAttempts()).isEqualTo(1);
+        assertThat(item.getCorrect()).isEqualTo(1);
+        assertThat(item.getEaseFactor()).isCloseTo(2.6, within(1e-9));
+        assertThat(minutes(item.getDueAt()) - START).isEqualTo(DAY);
+
+        final int second = (int) (START + DAY);
+        item = review(42L, true, second);
+        assertThat(item.getEaseFactor()).isCloseTo(2.7, within(1e-9));
+        assertThat(minutes(item.getDueAt()) - second).isEqualTo(6 * DAY);
+
+        final int third = (int) (second + 6 * DAY);
+        item = review(42L, true, third);
+        assertThat(item.getEaseFactor()).isCloseTo(2.8, within(1e-9));
+        assertThat(minutes(item.getDueAt()) - third).isEqualTo(Math.round(6 * DAY * 2.7));
+
+        final int missed = (int) minutes(item.getDueAt());
+        item = review(42L, false, missed);
+        assertThat(item.getAttempts()).isEqualTo(4);
+        assertThat(item.getCorrect()).isEqualTo(3);
+        assertThat(item.getEaseFactor()).isCloseTo(2.48, within(1e-9));
+        assertThat(minutes(item.getDueAt()) - missed).isEqualTo(RELEARN_MINUTES);
+
+        item = review(42L, true, missed + RELEARN_MINUTES);
+        assertThat(minutes(item.getDueAt()) - (missed + RELEARN_MINUTES)).isEqualTo(DAY);
+
+        for (int i = 0; i < 10; i++) {
+            item = review(42L, false, missed);
+        }
+        assertThat(item.getEaseFactor()).isCloseTo(1.3, within(1e-9));
+    }
+
+    @Test
+    void keepsQuestionsSorted() {
+        final List<PracticeItem> items = new RecordReviewProcessor(new long[] {30L, 10L, 20L},
+                new boolean[] {true, false, true}, START, RELEARN_MINUTES).process(entry);
+        assertThat(items).extracting(PracticeItem::getQuestionId).containsExactly(30L, 10L, 20L);
+        assertThat(entry.getValue().getId()).isEqualTo(7L);
+        assertThat(entry.getValue().getQuestionIds()).containsExactly(10L, 20L, 30L);
+        assertThat(entry.getValue().getDueAt()).containsExactly(START + RELEARN_MINUTES, (int) (START + DAY),
+                (int) (START + DAY));
+    }
+
+    private PracticeItem review(final long questionId, final boolean correct, final int at) {
+        return new RecordReviewProcessor(new long[] {questionId}, new boolean[] {correct}, at, RELEARN_MINUTES)
+                .process(entry)
+                .get(0);
+    }
+
+    private static long minutes(final long millis) {
+        return TimeUnit.MILLISECONDS.toMinutes(millis);
+    }
+
+}
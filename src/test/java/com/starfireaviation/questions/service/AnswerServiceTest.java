@@ -0,0 +1,70 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.service;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.starfireaviation.common.model.Answer;
+import com.starfireaviation.questions.QuestionsApplication;
+import com.starfireaviation.questions.model.QuestionScopedKey;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Moves an answer between questions through a plain save.
+ */
+@SpringBootTest(classes = QuestionsApplication.class)
+class AnswerServiceTest {
+
+    private static final long QUESTION = 940_001L;
+
+    private static final long OTHER_QUESTION = 940_002L;
+
+    @Autowired
+    @Qualifier("questions")
+    private HazelcastInstance hazelcast;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Test
+    void movesAnswerToAnotherQuestion() {
+        final Answer answer = new Answer();
+        answer.setQuestionId(QUESTION);
+        answerService.save(answer);
+        answerService.markCorrect(QUESTION, answer.getId());
+
+        final Answer moved = new Answer();
+        moved.setId(answer.getId());
+        moved.setQuestionId(OTHER_QUESTION);
+        answerService.save(moved);
+
+        assertThat(hazelcast.<QuestionScopedKey, Answer>getMap("answers").keySet())
+                .filteredOn(key -> answer.getId().equals(key.getId()))
+                .containsExactly(new QuestionScopedKey(answer.getId(), OTHER_QUESTION));
+        assertThat(answerService.findByQuestionId(QUESTION)).isEmpty();
+        assertThat(answerService.findByQuestionId(OTHER_QUESTION))
+                .extracting(Answer::getId)
+                .containsExactly(answer.getId());
+        assertThat(answerService.get(answer.getId()).getQuestionId()).isEqualTo(OTHER_QUESTION);
+        assertThat(hazelcast.getMap("correctanswers").containsKey(QUESTION)).isFalse();
+    }
+
+}
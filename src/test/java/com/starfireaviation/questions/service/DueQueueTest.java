@@ -0,0 +1,54 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that DueQueue keeps the IDs with the smallest keys, in key order, against a full sort of random keys.
+ */
+class DueQueueTest {
+
+    @Test
+    void keepsSmallestKeys() {
+        final Random random = new Random(42);
+        final long[] keys = random.longs(10_000, 0, 1_000_000).toArray();
+        final DueQueue queue = new DueQueue(50);
+        for (int id = 0; id < keys.length; id++) {
+            queue.offer(keys[id], id);
+        }
+        final long[] expected = IntStream.range(0, keys.length)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingLong(id -> keys[id]).thenComparing(id -> id))
+                .limit(50)
+                .mapToLong(id -> keys[id])
+                .toArray();
+        final long[] drained = queue.drain();
+        assertThat(drained).hasSize(50);
+        for (int i = 0; i < drained.length; i++) {
+            assertThat(keys[(int) drained[i]]).isEqualTo(expected[i]);
+        }
+        assertThat(queue.drain()).isEmpty();
+    }
+
+}
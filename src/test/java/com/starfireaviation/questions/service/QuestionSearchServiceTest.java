@@ -0,0 +1,144 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.service;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.starfireaviation.common.model.ACS;
+import com.starfireaviation.common.model.Question;
+import com.starfireaviation.common.model.QuestionACS;
+import com.starfireaviation.questions.QuestionsApplication;
+import com.starfireaviation.questions.index.AcsCodeIndex;
+import com.starfireaviation.questions.index.QuestionFacetIndex;
+import com.starfireaviation.questions.model.QuestionScopedKey;
+import com.starfireaviation.questions.model.QuestionSearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Combines search criteria over questions indexed through the facet and ACS code indexes.
+ */
+@SpringBootTest(classes = QuestionsApplication.class)
+class QuestionSearchServiceTest {
+
+    private static final long CHAPTER = 930_101L;
+
+    private static final long OTHER_CHAPTER = 930_102L;
+
+    private static final long ACS_TASK = 930_201L;
+
+    private static final long ACS_ELEMENT = 930_202L;
+
+    private static final long FIRST = 930_001L;
+
+    private static final long SECOND = 930_002L;
+
+    private static final long THIRD = 930_003L;
+
+    private static final long FOURTH = 930_004L;
+
+    @Autowired
+    @Qualifier("questions")
+    private HazelcastInstance hazelcast;
+
+    @Autowired
+    private QuestionSearchService searchService;
+
+    @Autowired
+    private QuestionFacetIndex facetIndex;
+
+    @Autowired
+    private AcsCodeIndex acsCodeIndex;
+
+    @BeforeEach
+    void index() throws InterruptedException {
+        final IMap<Long, Question> questions = hazelcast.getMap("questions");
+        questions.put(FIRST, question(FIRST, CHAPTER, "PLT930"));
+        questions.put(SECOND, question(SECOND, CHAPTER, "PLT931"));
+        questions.put(THIRD, question(THIRD, OTHER_CHAPTER, "PLT930"));
+        questions.put(FOURTH, question(FOURTH, CHAPTER, "PLT930"));
+        final IMap<Long, ACS> acs = hazelcast.getMap("acs");
+        acs.put(ACS_TASK, acs(ACS_TASK, "YW.I.A"));
+        acs.put(ACS_ELEMENT, acs(ACS_ELEMENT, "YW.I.A.K1"));
+        final IMap<QuestionScopedKey, QuestionACS> links = hazelcast.getMap("questionacs");
+        links.put(new QuestionScopedKey(FIRST, FIRST), link(FIRST, ACS_ELEMENT));
+        links.put(new QuestionScopedKey(THIRD, THIRD), link(THIRD, ACS_TASK));
+        links.put(new QuestionScopedKey(FOURTH, FOURTH), link(FOURTH, ACS_TASK));
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while ((facetIndex.byAcs(List.of(ACS_TASK, ACS_ELEMENT)).getLongCardinality() < 3
+                || facetIndex.byChapters(List.of(CHAPTER, OTHER_CHAPTER)).getLongCardinality() < 4
+                || acsCodeIndex.subtree("YW").size() < 2)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void emptyCriteriaMatchesAllQuestions() {
+        assertThat(searchService.searchIds(new QuestionSearchCriteria()))
+                .containsAll(hazelcast.<Long, Question>getMap("questions").keySet())
+                .contains(FIRST, SECOND, THIRD, FOURTH);
+    }
+
+    @Test
+    void combinesCriteriaWithAnd() {
+        assertThat(searchService.searchIds(QuestionSearchCriteria.of(null, null, null, CHAPTER, null)))
+                .containsExactly(FIRST, SECOND, FOURTH);
+        assertThat(searchService.searchIds(QuestionSearchCriteria.of(null, null, null, CHAPTER, "PLT930")))
+                .containsExactly(FIRST, FOURTH);
+        assertThat(searchService.searchIds(QuestionSearchCriteria.of(null, null, "YW.I", CHAPTER, "PLT930")))
+                .containsExactly(FIRST, FOURTH);
+        assertThat(searchService.searchIds(QuestionSearchCriteria.of(null, "yw.i.a", null, CHAPTER, "PLT930")))
+                .containsExactly(FOURTH);
+        assertThat(searchService.searchIds(QuestionSearchCriteria.of(null, null, "YW.I.A.K1", null, "PLT930")))
+                .containsExactly(FIRST);
+        assertThat(searchService.searchIds(QuestionSearchCriteria.of(null, "YW.I.A", null, CHAPTER, "PLT931")))
+                .isEmpty();
+    }
+
+    private static Question question(final long id, final long chapterId, final String learningStatementCode) {
+        final Question question = new Question();
+        question.setId(id);
+        question.setChapterId(chapterId);
+        question.setLearningStatementCode(learningStatementCode);
+        return question;
+    }
+
+    private static ACS acs(final long id, final String code) {
+        final ACS acs = new ACS();
+        acs.setId(id);
+        acs.setCode(code);
+        return acs;
+    }
+
+    private static QuestionACS link(final long questionId, final long acsId) {
+        final QuestionACS link = new QuestionACS();
+        link.setId(questionId);
+        link.setQuestionId(questionId);
+        link.setAcsId(acsId);
+        return link;
+    }
+
+}
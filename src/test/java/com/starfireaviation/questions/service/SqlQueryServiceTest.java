@@ -0,0 +1,171 @@
+/*
+ *  Copyright (C) 2022 Starfire Aviation, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.starfireaviation.questions.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.sql.SqlResult;
+import com.starfireaviation.common.model.Answer;
+import com.starfireaviation.common.model.Question;
+import com.starfireaviation.questions.config.ApplicationProperties;
+import com.starfireaviation.questions.config.ServiceConfig;
+import com.starfireaviation.questions.model.QuestionScopedKey;
+import com.starfireaviation.questions.model.SqlQuery;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Runs the SQL mappings on an embedded member and queries a Long-keyed and a question scoped map through them.
+ */
+class SqlQueryServiceTest {
+
+    private static final int MAX_ROWS = 2;
+
+    private static final long CHAPTER = 17L;
+
+    private static final long QUESTION = 9L;
+
+    private static HazelcastInstance hazelcastInstance;
+
+    private static ApplicationProperties applicationProperties;
+
+    private static SqlQueryService sqlQueryService;
+
+    @BeforeAll
+    static void start() {
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getCluster().setName("questions-sql-" + System.nanoTime());
+        applicationProperties.getSql().setEnabled(true);
+        applicationProperties.getSql().setTimeoutMillis(30_000L);
+        applicationProperties.getSql().setMaxRows(MAX_ROWS);
+        hazelcastInstance = Hazelcast.newHazelcastInstance(ServiceConfig.hazelcastConfig(applicationProperties));
+        sqlQueryService = new SqlQueryService(hazelcastInstance, applicationProperties, new ObjectMapper());
+        sqlQueryService.createMappings();
+
+        for (long id = 1; id <= 3; id++) {
+            final Question question = new Question();
+            question.setId(id);
+            question.setChapterId(CHAPTER);
+            question.setLearningStatementCode("PLT00" + id);
+            hazelcastInstance.getMap("questions").set(id, question);
+        }
+        final Question otherChapter = new Question();
+        otherChapter.setId(4L);
+        otherChapter.setChapterId(CHAPTER + 1);
+        hazelcastInstance.getMap("questions").set(4L, otherChapter);
+        for (long id = 101; id <= 102; id++) {
+            final Answer answer = new Answer();
+            answer.setId(id);
+            answer.setQuestionId(QUESTION);
+            answer.setChoice(id == 101 ? "A" : "B");
+            hazelcastInstance.getMap("answers").set(new QuestionScopedKey(id, QUESTION), answer);
+        }
+        final Answer otherQuestion = new Answer();
+        otherQuestion.setId(103L);
+        otherQuestion.setQuestionId(QUESTION + 1);
+        hazelcastInstance.getMap("answers").set(new QuestionScopedKey(103L, QUESTION + 1), otherQuestion);
+    }
+
+    @AfterAll
+    static void shutdown() {
+        hazelcastInstance.shutdown();
+    }
+
+    @Test
+    void queriesLongKeyedMap() {
+        assertThat(rows("SELECT __key, chapterId, learningStatementCode FROM questions WHERE chapterId = ?", CHAPTER))
+                .extracting(row -> row.get("__key"),
+                        row -> row.get("chapterId"),
+                        row -> row.get("learningStatementCode"))
+                .containsExactlyInAnyOrder(
+                        tuple(1L, CHAPTER, "PLT001"),
+                        tuple(2L, CHAPTER, "PLT002"),
+                        tuple(3L, CHAPTER, "PLT003"));
+    }
+
+    @Test
+    void queriesQuestionScopedMap() {
+        assertThat(rows("SELECT id, questionId, choice FROM answers WHERE questionId = ?", QUESTION))
+                .extracting(row -> row.get("id"), row -> row.get("questionId"), row -> row.get("choice"))
+                .containsExactlyInAnyOrder(
+                        tuple(101L, QUESTION, "A"),
+                        tuple(102L, QUESTION, "B"));
+    }
+
+    @Test
+    void rejectsStatementsWithoutRows() {
+        assertThatThrownBy(() -> sqlQueryService.execute(query("DELETE FROM questions WHERE __key = 1")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> sqlQueryService.execute(query("DROP MAPPING questions")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThat(hazelcastInstance.getMap("questions").containsKey(1L)).isTrue();
+        assertThat(rows("SELECT __key FROM questions WHERE __key = ?", 1L)).hasSize(1);
+    }
+
+    @Test
+    void stopsAtMaxRows() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        sqlQueryService.writeRows(sqlQueryService.execute(query("SELECT __key FROM questions")), out);
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n"))
+                .hasSize(MAX_ROWS)
+                .allSatisfy(line -> assertThat(line).startsWith("{\"__key\":"));
+    }
+
+    @Test
+    void notFoundWhenDisabled() {
+        final ApplicationProperties disabled = new ApplicationProperties();
+        disabled.getSql().setEnabled(false);
+        final SqlQueryService disabledService = new SqlQueryService(hazelcastInstance, disabled, new ObjectMapper());
+        assertThatThrownBy(() -> disabledService.execute(query("SELECT __key FROM questions")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.NOT_FOUND));
+    }
+
+    private static List<Map<String, Object>> rows(final String sql, final Object... parameters) {
+        final SqlQuery query = query(sql);
+        query.setParameters(List.of(parameters));
+        final List<Map<String, Object>> rows = new ArrayList<>();
+        try (SqlResult result = sqlQueryService.execute(query)) {
+            result.forEach(row -> rows.add(SqlQueryService.toMap(row)));
+        }
+        return rows;
+    }
+
+    private static SqlQuery query(final String sql) {
+        final SqlQuery query = new SqlQuery();
+        query.setSql(sql);
+        return query;
+    }
+
+}